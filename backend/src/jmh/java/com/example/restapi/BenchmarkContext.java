@@ -0,0 +1,24 @@
+package com.example.restapi;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+// DB 를 쓰는 벤치마크용 애플리케이션. ApiV1LoadTest 와 같이 H2 에 perf 프로파일 데이터를 만들어 두고 시작한다.
+// 벤치마크의 @Setup(Level.Trial) 에서 띄우고 @TearDown(Level.Trial) 에서 닫는다.
+public class BenchmarkContext {
+
+    public static ConfigurableApplicationContext start() {
+        return new SpringApplicationBuilder(RestapiApplication.class)
+                .profiles("test", "perf")
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:db_jmh;MODE=MySQL",
+                        "custom.perf-data.members=1000",
+                        "custom.perf-data.posts=20000",
+                        "custom.perf-data.max-comments-per-post=200",
+                        "custom.perf-data.batch-size=500",
+                        "logging.level.root=WARN"
+                )
+                .run();
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.restapi.domain.member.member.service;
+
+import com.example.restapi.domain.member.member.entity.Member;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+
+// 필터가 요청마다 거치는 경로 : 서명 검증 + 페이로드 파싱
+// cached 는 검증된 토큰 캐시 적중, uncached 는 캐시 크기 0 (매번 서명 검증)
+@State(Scope.Benchmark)
+public class AuthTokenServiceBenchmark {
+
+    private static final String KEY = "abcdefghijklmnopqrstuvwxyz1234567890abcdefghijklmnopqrstuvwxyz1234567890";
+
+    private AuthTokenService cachedService;
+    private AuthTokenService uncachedService;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        cachedService = new AuthTokenService(KEY, 60 * 60, 10_000, new SimpleMeterRegistry());
+        uncachedService = new AuthTokenService(KEY, 60 * 60, 0, new SimpleMeterRegistry());
+
+        token = cachedService.genAccessToken(
+                Member.builder().id(3L).username("user1").nickname("유저1").build()
+        );
+        cachedService.getPayload(token);
+    }
+
+    @Benchmark
+    public Map<String, Object> cached() {
+        return cachedService.getPayload(token);
+    }
+
+    @Benchmark
+    public Map<String, Object> uncached() {
+        return uncachedService.getPayload(token);
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.restapi.domain.member.member.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+// 로그인의 비밀번호 확인 처리량을 bcrypt 비용별로 잰다. (8개 요청 스레드가 동시에 로그인)
+// pooled 는 PasswordHasher 의 전용 풀을 거치는 실제 경로, direct 는 요청 스레드에서 바로 확인하는 경우
+// 예) ./gradlew jmh -PjmhInclude=PasswordHasherBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(8)
+public class PasswordHasherBenchmark {
+
+    private static final String PASSWORD = "user11234";
+
+    @Param({"4", "8", "10", "12"})
+    private int strength;
+
+    private PasswordHasher passwordHasher;
+    private BCryptPasswordEncoder bCryptPasswordEncoder;
+    private String encoded;
+    private String bcryptEncoded;
+
+    @Setup
+    public void setUp() {
+        passwordHasher = new PasswordHasher(
+                strength,
+                Runtime.getRuntime().availableProcessors(),
+                1_000,
+                Duration.ofMinutes(1),
+                new SimpleMeterRegistry()
+        );
+        bCryptPasswordEncoder = new BCryptPasswordEncoder(strength);
+
+        encoded = passwordHasher.encode(PASSWORD);
+        bcryptEncoded = encoded.substring("{bcrypt}".length());
+    }
+
+    @TearDown
+    public void tearDown() {
+        passwordHasher.shutdown();
+    }
+
+    @Benchmark
+    public boolean pooled() {
+        return passwordHasher.matches(PASSWORD, encoded);
+    }
+
+    @Benchmark
+    public boolean direct() {
+        return bCryptPasswordEncoder.matches(PASSWORD, bcryptEncoded);
+    }
+}
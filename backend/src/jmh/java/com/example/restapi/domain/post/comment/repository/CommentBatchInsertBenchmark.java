@@ -0,0 +1,72 @@
+package com.example.restapi.domain.post.comment.repository;
+
+import com.example.restapi.BenchmarkContext;
+import com.example.restapi.domain.member.member.entity.Member;
+import com.example.restapi.domain.member.member.repository.MemberRepository;
+import com.example.restapi.domain.post.post.entity.Post;
+import com.example.restapi.domain.post.post.service.PostService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Session;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.TimeUnit;
+
+// 댓글 여러 건 INSERT : 행마다 실행(batchSize = 1, 이전 IDENTITY 방식과 같은 조건) vs JDBC 배치(hibernate.jdbc.batch_size)
+// 매번 flush 까지 실행한 뒤 롤백해서 반복해도 데이터가 쌓이지 않게 한다.
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CommentBatchInsertBenchmark {
+
+    private static final int ROWS = 1000;
+
+    @Param({"1", "100"})
+    private int batchSize;
+
+    private ConfigurableApplicationContext context;
+    private EntityManager em;
+    private TransactionTemplate transactionTemplate;
+    private long postId;
+    private long authorId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+        em = SharedEntityManagerCreator.createSharedEntityManager(context.getBean(EntityManagerFactory.class));
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+
+        Member author = context.getBean(MemberRepository.class).findByUsername("user1").get();
+        Post post = transactionTemplate.execute(_ ->
+                context.getBean(PostService.class).write(author, "배치 벤치마크", "배치 벤치마크", true, true)
+        );
+
+        postId = post.getId();
+        authorId = author.getId();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void insert() {
+        transactionTemplate.executeWithoutResult(status -> {
+            em.unwrap(Session.class).setJdbcBatchSize(batchSize);
+
+            Post post = em.find(Post.class, postId);
+            Member author = em.find(Member.class, authorId);
+
+            for (int i = 0; i < ROWS; i++) {
+                post.addComment(author, "댓글 " + i);
+            }
+
+            em.flush();
+            status.setRollbackOnly();
+        });
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.restapi.domain.post.post.dto;
+
+import com.example.restapi.domain.member.member.entity.Member;
+import com.example.restapi.domain.post.comment.dto.CommentDto;
+import com.example.restapi.domain.post.comment.entity.Comment;
+import com.example.restapi.domain.post.post.entity.Post;
+import com.example.restapi.global.dto.RsData;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// 응답 본문 직렬화 비용. ObjectMapper 는 스프링 부트 기본 설정(jsr310 모듈, 날짜를 문자열로)과 맞춘다.
+@State(Scope.Benchmark)
+public class DtoSerializationBenchmark {
+
+    @Param({"3", "30"})
+    private int pageSize;
+
+    private ObjectMapper objectMapper;
+    private RsData<PageDto> pageRsData;
+    private RsData<PostWithContentDto> postRsData;
+    private List<CommentDto> commentDtos;
+
+    @Setup
+    public void setUp() {
+        objectMapper = JsonMapper.builder()
+                .findAndAddModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .disable(SerializationFeature.FAIL_ON_EMPTY_BEANS)
+                .build();
+
+        LocalDateTime now = LocalDateTime.now();
+        List<PostDto> items = new ArrayList<>(pageSize);
+
+        for (long id = 1; id <= pageSize; id++) {
+            items.add(new PostDto(id, now, now, "축구 하실분 모집합니다. " + id, 3L, "유저1", true, true));
+        }
+
+        pageRsData = new RsData<>("200-1", "글 목록 조회가 완료되었습니다.", new PageDto(items, 1, 10, 10 * pageSize, pageSize));
+
+        Member author = Member.builder().id(3L).username("user1").nickname("유저1").build();
+        Post post = Post.builder()
+                .id(1L)
+                .createdDate(now)
+                .modifiedDate(now)
+                .author(author)
+                .authorName("유저1")
+                .title("축구 하실분 모집합니다.")
+                .content("저녁 6시까지 모여주세요. ".repeat(10))
+                .published(true)
+                .listed(true)
+                .build();
+
+        postRsData = new RsData<>("200-1", "1번 글을 조회하였습니다.", new PostWithContentDto(post));
+
+        commentDtos = new ArrayList<>(pageSize);
+
+        for (long id = 1; id <= pageSize; id++) {
+            Comment comment = Comment.builder()
+                    .id(id)
+                    .createdDate(now)
+                    .modifiedDate(now)
+                    .post(post)
+                    .author(author)
+                    .authorName("유저1")
+                    .content("저 참석하겠습니다. " + id)
+                    .build();
+
+            commentDtos.add(new CommentDto(comment));
+        }
+    }
+
+    @Benchmark
+    public byte[] pageDto() throws Exception {
+        return objectMapper.writeValueAsBytes(pageRsData);
+    }
+
+    @Benchmark
+    public byte[] postWithContentDto() throws Exception {
+        return objectMapper.writeValueAsBytes(postRsData);
+    }
+
+    @Benchmark
+    public byte[] commentDtos() throws Exception {
+        return objectMapper.writeValueAsBytes(commentDtos);
+    }
+}
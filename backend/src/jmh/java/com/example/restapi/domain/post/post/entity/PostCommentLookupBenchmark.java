@@ -0,0 +1,43 @@
+package com.example.restapi.domain.post.post.entity;
+
+import com.example.restapi.domain.member.member.entity.Member;
+import com.example.restapi.domain.post.comment.entity.Comment;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@State(Scope.Benchmark)
+public class PostCommentLookupBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    private int commentCount;
+
+    private Post post;
+    private long middleId;
+
+    @Setup
+    public void setUp() {
+        Member author = Member.builder().id(3L).username("user1").nickname("유저1").build();
+        List<Comment> comments = new ArrayList<>(commentCount);
+
+        post = Post.builder().id(1L).author(author).title("title").content("content").build();
+
+        for (long id = 1; id <= commentCount; id++) {
+            comments.add(Comment.builder().id(id).post(post).author(author).authorName("유저1").content("댓글 " + id).build());
+        }
+
+        post.setComments(comments);
+        middleId = commentCount / 2 + 1;
+    }
+
+    @Benchmark
+    public Comment getCommentById() {
+        return post.getCommentById(middleId);
+    }
+
+    @Benchmark
+    public Comment getLatestComment() {
+        return post.getLatestComment();
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.restapi.domain.post.post.repository;
+
+import com.example.restapi.BenchmarkContext;
+import com.example.restapi.domain.post.post.dto.PostDto;
+import com.example.restapi.domain.post.post.entity.Post;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 글 목록 한 페이지 : 엔티티 조회 후 변환(이전 방식) vs PostDto 프로젝션 조회
+// 트랜잭션마다 영속성 컨텍스트를 새로 열어 실제 요청과 같은 조건으로 읽는다.
+// gc.alloc.rate.norm (B/op) 에 JDBC 드라이버가 읽어 만든 컬럼 값까지 포함되므로 content 를 읽지 않는 차이가 그대로 드러난다.
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PostListProjectionBenchmark {
+
+    private static final int PAGE_SIZE = 30;
+
+    private final PostSearchCondition condition = new PostSearchCondition(null, null, null, null);
+
+    private ConfigurableApplicationContext context;
+    private PostRepository postRepository;
+    private EntityManager em;
+    private TransactionTemplate transactionTemplate;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+        postRepository = context.getBean(PostRepository.class);
+        em = SharedEntityManagerCreator.createSharedEntityManager(context.getBean(EntityManagerFactory.class));
+
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        transactionTemplate.setReadOnly(true);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    // 이전 방식 : 글 엔티티 전체(content 포함)와 작성자를 영속성 컨텍스트에 올린 뒤 변환
+    @Benchmark
+    public List<PostDto> entity() {
+        return transactionTemplate.execute(_ -> em.createQuery("select p from Post p where p.listed = true order by p.id desc", Post.class)
+                .setMaxResults(PAGE_SIZE)
+                .getResultList()
+                .stream()
+                .peek(post -> post.getAuthor().getNickname())
+                .map(PostDto::new)
+                .toList());
+    }
+
+    @Benchmark
+    public List<PostDto> projection() {
+        return transactionTemplate.execute(_ -> postRepository.findByCondition(condition, 0, PAGE_SIZE));
+    }
+}
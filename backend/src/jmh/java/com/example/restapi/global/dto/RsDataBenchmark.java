@@ -0,0 +1,14 @@
+package com.example.restapi.global.dto;
+
+import org.openjdk.jmh.annotations.*;
+
+@State(Scope.Benchmark)
+public class RsDataBenchmark {
+
+    private final RsData<Empty> rsData = new RsData<>("200-1", "글 목록 조회가 완료되었습니다.");
+
+    @Benchmark
+    public int getStatusCode() {
+        return rsData.getStatusCode();
+    }
+}
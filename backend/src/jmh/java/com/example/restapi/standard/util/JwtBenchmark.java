@@ -0,0 +1,41 @@
+package com.example.restapi.standard.util;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+
+@State(Scope.Benchmark)
+public class JwtBenchmark {
+
+    private static final String KEY = "abcdefghijklmnopqrstuvwxyz1234567890abcdefghijklmnopqrstuvwxyz1234567890";
+
+    private final Map<String, Object> claims = Map.of("id", 3L, "username", "user1", "nickname", "유저1");
+    private final Utils.Jwt.Codec codec = Utils.Jwt.codec(KEY);
+    private String token;
+
+    @Setup
+    public void setUp() {
+        token = Utils.Jwt.createToken(KEY, 60 * 60, claims);
+    }
+
+    @Benchmark
+    public String createToken() {
+        return Utils.Jwt.createToken(KEY, 60 * 60, claims);
+    }
+
+    @Benchmark
+    public boolean isTokenValid() {
+        return Utils.Jwt.isTokenValid(KEY, token);
+    }
+
+    @Benchmark
+    public Map<String, Object> getPayload() {
+        return Utils.Jwt.getPayload(KEY, token);
+    }
+
+    // 검증과 페이로드 파싱을 한 번에
+    @Benchmark
+    public Map<String, Object> verify() {
+        return codec.verify(token);
+    }
+}
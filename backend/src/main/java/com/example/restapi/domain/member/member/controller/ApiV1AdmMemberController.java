@@ -0,0 +1,43 @@
+package com.example.restapi.domain.member.member.controller;
+
+import com.example.restapi.domain.member.member.entity.Member;
+import com.example.restapi.domain.member.member.service.MemberService;
+import com.example.restapi.global.dto.Empty;
+import com.example.restapi.global.dto.RsData;
+import com.example.restapi.global.exception.ServiceException;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "ApiV1AdmMemberController", description = "관리자용 회원 API")
+@SecurityRequirement(name = "bearerAuth")
+@RestController
+@RequestMapping("/api/v1/adm/members")
+@RequiredArgsConstructor
+public class ApiV1AdmMemberController {
+
+    private final MemberService memberService;
+
+    @Operation(
+            summary = "회원 인증 정보 폐기",
+            description = "apiKey 를 새로 발급하고, 이전 apiKey 와 지금까지 발급된 AccessToken 을 모두 쓸 수 없게 함"
+    )
+    @PostMapping("/{id}/revoke")
+    public RsData<Empty> revokeCredentials(@PathVariable long id) {
+        Member member = memberService.findById(id).orElseThrow(
+                () -> new ServiceException("404-1", "존재하지 않는 회원입니다.")
+        );
+
+        memberService.revokeCredentials(member);
+
+        return new RsData<>(
+                "200-1",
+                "%d번 회원의 인증 정보를 폐기했습니다.".formatted(id)
+        );
+    }
+}
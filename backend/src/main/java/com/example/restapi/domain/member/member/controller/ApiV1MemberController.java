@@ -8,10 +8,14 @@ import com.example.restapi.global.Rq;
 import com.example.restapi.global.dto.Empty;
 import com.example.restapi.global.dto.RsData;
 import com.example.restapi.global.exception.ServiceException;
+import com.example.restapi.global.security.CurrentActor;
+import com.example.restapi.global.security.CustomAuthenticationFilter;
+import com.example.restapi.global.security.CustomAuthenticationFilter.AuthToken;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
@@ -59,13 +63,7 @@ public class ApiV1MemberController {
     @PostMapping("/login")
     public RsData<LoginResBody> login(@RequestBody @Valid LoginReqBody reqBody, HttpServletResponse response) {
 
-        Member member = memberService.findByUsername(reqBody.username()).orElseThrow(
-                () -> new ServiceException("401-1", "잘못된 아이디입니다.")
-        );
-
-        if(!member.getPassword().equals(reqBody.password())) {
-            throw new ServiceException("401-2", "비밀번호가 일치하지 않습니다.");
-        }
+        Member member = memberService.login(reqBody.username(), reqBody.password());
 
         String accessToken = memberService.genAccessToken(member);
 
@@ -83,9 +81,14 @@ public class ApiV1MemberController {
         );
     }
 
-    @Operation(summary = "로그아웃", description = "로그아웃 시 쿠키 삭제")
+    @Operation(summary = "로그아웃", description = "로그아웃 시 쿠키 삭제. 사용하던 AccessToken 은 만료될 때까지 다시 쓸 수 없고, apiKey 는 새로 발급된다.")
     @DeleteMapping("/logout")
-    public RsData<Empty> logout() {
+    public RsData<Empty> logout(HttpServletRequest request) {
+        AuthToken authToken = CustomAuthenticationFilter.getAuthTokenFromRequest(request);
+
+        if (authToken != null) {
+            memberService.logout(authToken.apiKey(), authToken.accessToken());
+        }
 
         rq.removeCookie("accessToken");
         rq.removeCookie("apiKey");
@@ -96,8 +99,7 @@ public class ApiV1MemberController {
 
     @Operation(summary = "내 정보 조회")
     @GetMapping("/me")
-    public RsData<MemberDto> me() {
-        Member actor = rq.getCurrentActor();
+    public RsData<MemberDto> me(@CurrentActor Member actor) {
         Member realActor = rq.getRealActor(actor);
 
         return new RsData<>(
@@ -108,4 +110,23 @@ public class ApiV1MemberController {
     }
 
 
+    public record ModifyReqBody(@NotBlank @Length(max = 100) String nickname) {}
+
+    @Operation(summary = "내 정보 수정", description = "닉네임 변경 시 AccessToken 을 다시 발급하여 쿠키로 반환")
+    @PutMapping("/me")
+    public RsData<MemberDto> modifyMe(@RequestBody @Valid ModifyReqBody reqBody, @CurrentActor Member actor) {
+        Member realActor = rq.getRealActor(actor);
+
+        memberService.modifyNickname(realActor, reqBody.nickname());
+
+        rq.addCookie("accessToken", memberService.genAccessToken(realActor));
+
+        return new RsData<>(
+                "200-1",
+                "내 정보 수정이 완료되었습니다.",
+                new MemberDto(realActor)
+        );
+    }
+
+
 }
@@ -0,0 +1,19 @@
+package com.example.restapi.domain.member.member.dto;
+
+import com.example.restapi.domain.member.member.entity.Member;
+
+// apiKey 로 다시 발급한 액세스 토큰과 그 회원 정보. 여러 요청이 같이 쓰므로 불변으로 둔다.
+public record RefreshedAccessToken(long id, String username, String nickname, String accessToken) {
+
+    public RefreshedAccessToken(Member member, String accessToken) {
+        this(member.getId(), member.getUsername(), member.getNickname(), accessToken);
+    }
+
+    public Member toMember() {
+        return Member.builder()
+                .id(id)
+                .username(username)
+                .nickname(nickname)
+                .build();
+    }
+}
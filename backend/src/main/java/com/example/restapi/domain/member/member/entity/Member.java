@@ -10,7 +10,6 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 
@@ -23,6 +22,10 @@ import java.util.List;
 @EntityListeners(AuditingEntityListener.class)
 public class Member extends BaseTime {
 
+    // 권한 목록은 종류가 몇 개뿐이므로 요청마다 만들지 않고 불변 상수를 돌려준다.
+    private static final List<String> ADMIN_AUTHORITIES_AS_STRING = List.of("ROLE_ADMIN");
+    private static final List<GrantedAuthority> ADMIN_AUTHORITIES = List.of(new SimpleGrantedAuthority("ROLE_ADMIN"));
+
     @Column(length = 100, unique = true)
     private String username;
     @Column(length = 100)
@@ -37,17 +40,10 @@ public class Member extends BaseTime {
     }
 
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return getMemberAuthoritiesAsString()
-                .stream()
-                .map(SimpleGrantedAuthority::new)
-                .toList();
+        return isAdmin() ? ADMIN_AUTHORITIES : List.of();
     }
 
     public List<String> getMemberAuthoritiesAsString() {
-        List<String> authorities = new ArrayList<>();
-        if(isAdmin()) {
-            authorities.add("ROLE_ADMIN");
-        }
-        return authorities;
+        return isAdmin() ? ADMIN_AUTHORITIES_AS_STRING : List.of();
     }
 }
\ No newline at end of file
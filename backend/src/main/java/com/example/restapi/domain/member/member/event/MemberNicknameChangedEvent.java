@@ -0,0 +1,4 @@
+package com.example.restapi.domain.member.member.event;
+
+public record MemberNicknameChangedEvent(long memberId) {
+}
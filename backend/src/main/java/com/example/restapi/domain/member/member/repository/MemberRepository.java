@@ -1,11 +1,37 @@
 package com.example.restapi.domain.member.member.repository;
 
 import com.example.restapi.domain.member.member.entity.Member;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface MemberRepository extends JpaRepository<Member, Long>{
     Optional<Member> findByUsername(String username);
     Optional<Member> findByApiKey(String apiKey);
+    List<Member> findByUsernameIn(Collection<String> usernames);
+
+    @Query("select m.id from Member m where m.id > :lastId order by m.id")
+    List<Long> findIds(long lastId, PageRequest pageRequest);
+
+    // 회원 캐시의 스냅샷은 오래되었을 수 있으므로 통째로 save(merge) 하지 않고 바꾼 컬럼만 고친다.
+    // 로그인 중 재해시는 트랜잭션 밖에서 부르므로 메서드에 트랜잭션을 둔다. (bcrypt 계산 동안 커넥션을 잡지 않도록)
+    @Transactional
+    @Modifying
+    @Query("update Member m set m.password = :password, m.modifiedDate = :modifiedDate where m.id = :id")
+    int updatePassword(long id, String password, LocalDateTime modifiedDate);
+
+    @Modifying
+    @Query("update Member m set m.nickname = :nickname, m.modifiedDate = :modifiedDate where m.id = :id")
+    int updateNickname(long id, String nickname, LocalDateTime modifiedDate);
+
+    @Modifying
+    @Query("update Member m set m.apiKey = :apiKey, m.modifiedDate = :modifiedDate where m.id = :id")
+    int updateApiKey(long id, String apiKey, LocalDateTime modifiedDate);
 }
\ No newline at end of file
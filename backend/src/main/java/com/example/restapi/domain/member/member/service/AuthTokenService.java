@@ -2,42 +2,108 @@ package com.example.restapi.domain.member.member.service;
 
 import com.example.restapi.domain.member.member.entity.Member;
 import com.example.restapi.standard.util.Utils;
-import lombok.RequiredArgsConstructor;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Map;
 
 @Service
-@RequiredArgsConstructor
 public class AuthTokenService {
 
-    @Value("${custom.jwt.secret-key}")
-    private String keyString;
-    @Value("${custom.jwt.expire-seconds}")
-    private int expireSeconds;
+    private final Utils.Jwt.Codec jwt;
+    private final int expireSeconds;
+
+    // 검증을 마친 토큰의 페이로드. 키는 토큰의 SHA-256 이고, 토큰의 exp 시각에 같이 만료된다.
+    // 같은 토큰으로 다시 요청하면 서명 검증과 JSON 파싱을 건너뛴다. 검증에 실패한 토큰은 넣지 않는다.
+    private final Cache<String, VerifiedToken> verifiedTokens;
+
+    private record VerifiedToken(Map<String, Object> payload, long expiresAt) {}
+
+    public AuthTokenService(
+            @Value("${custom.jwt.secret-key}") String keyString,
+            @Value("${custom.jwt.expire-seconds}") int expireSeconds,
+            @Value("${custom.jwt.verified-cache.max-size}") long verifiedCacheMaxSize,
+            MeterRegistry meterRegistry
+    ) {
+        this.jwt = Utils.Jwt.codec(keyString);
+        this.expireSeconds = expireSeconds;
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheMaxSize)
+                .expireAfter(Expiry.creating((String _, VerifiedToken token) ->
+                        Duration.ofMillis(Math.max(0, token.expiresAt() - System.currentTimeMillis()))
+                ))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, "verifiedAccessToken");
+    }
 
     String genAccessToken(Member member) {
 
-        return Utils.Jwt.createToken(
-                keyString,
+        return jwt.createToken(
                 expireSeconds,
-                Map.of("id", member.getId(), "username", member.getUsername(), "nickname", member.getNickname())
+                // iat 는 초 단위라 같은 초에 폐기/재발급이 겹치면 구분되지 않으므로 밀리초 발급 시각을 따로 넣는다.
+                Map.of("id", member.getId(), "username", member.getUsername(), "nickname", member.getNickname(), "iatMs", System.currentTimeMillis())
         );
     }
 
     Map<String, Object> getPayload(String token) {
-        if(!Utils.Jwt.isTokenValid(keyString, token)) {
+        return getPayload(token, Utils.Hash.sha256(token));
+    }
+
+    // digest 는 token 의 SHA-256. 요청마다 한 번만 계산해서 폐기 확인과 같이 쓴다.
+    Map<String, Object> getPayload(String token, String digest) {
+        VerifiedToken cached = verifiedTokens.getIfPresent(digest);
+
+        // 캐시의 만료 처리는 조금 늦을 수 있으므로 만료 시각을 한 번 더 확인
+        if (cached != null && cached.expiresAt() > System.currentTimeMillis()) {
+            return cached.payload();
+        }
+
+        Claims claims = jwt.verify(token);
+
+        if (claims == null) {
             return null;
         }
-        Map<String, Object> payload = Utils.Jwt.getPayload(keyString, token);
 
-        Number idNo = (Number)payload.get("id");
+        Number idNo = (Number)claims.get("id");
         long id = idNo.longValue();
 
-        String username = (String)payload.get("username");
-        String nickname = (String)payload.get("nickname");
+        String username = (String)claims.get("username");
+        String nickname = (String)claims.get("nickname");
+
+        // 발급 시각(밀리초)은 회원 단위 폐기(그 시각 이전에 발급된 토큰 무효) 확인에 쓴다.
+        // iatMs 가 없는 이전 토큰은 초 단위 iat 를 쓴다.
+        Number issuedAtMillisNo = (Number) claims.get("iatMs");
+        long issuedAtMillis = issuedAtMillisNo != null
+                ? issuedAtMillisNo.longValue()
+                : claims.getIssuedAt() == null ? 0 : claims.getIssuedAt().getTime();
+
+        Map<String, Object> payload = Map.of("id", id, "username", username, "nickname", nickname, "iatMs", issuedAtMillis);
+
+        if (claims.getExpiration() != null) {
+            verifiedTokens.put(digest, new VerifiedToken(payload, claims.getExpiration().getTime()));
+        }
+
+        return payload;
+    }
+
+    // 토큰이 유효하면 만료 시각, 아니면 null (폐기 목록에 넣을 때 사용)
+    Instant getExpiration(String token) {
+        Claims claims = jwt.verify(token);
+
+        if (claims == null || claims.getExpiration() == null) {
+            return null;
+        }
 
-        return Map.of("id", id, "username", username, "nickname", nickname);
+        return claims.getExpiration().toInstant();
     }
 }
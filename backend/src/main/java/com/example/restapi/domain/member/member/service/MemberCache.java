@@ -0,0 +1,174 @@
+package com.example.restapi.domain.member.member.service;
+
+import com.example.restapi.domain.member.member.entity.Member;
+import com.example.restapi.standard.util.Utils;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+// 회원 스냅샷 캐시. id 로 저장하고 apiKey, username 은 id 를 가리키는 보조 색인으로 둔다.
+// 꺼낼 때마다 새 Member 를 만들어 주므로 호출한 쪽이 고쳐도 캐시는 바뀌지 않는다.
+// - 트랜잭션 안에서 읽은 값은 커밋된 뒤에 넣는다. (롤백된 회원이 캐시에 남지 않도록)
+// - 무효화가 일어날 때마다 세대를 올리고, 조회 도중 무효화가 끼어들었다면 그 결과는 넣지 않는다.
+@Component
+public class MemberCache {
+
+    private record Snapshot(
+            long id,
+            LocalDateTime createdDate,
+            LocalDateTime modifiedDate,
+            String username,
+            String password,
+            String apiKey,
+            String nickname
+    ) {
+        Snapshot(Member member) {
+            this(
+                    member.getId(),
+                    member.getCreatedDate(),
+                    member.getModifiedDate(),
+                    member.getUsername(),
+                    member.getPassword(),
+                    member.getApiKey(),
+                    member.getNickname()
+            );
+        }
+
+        Member toMember() {
+            return Member.builder()
+                    .id(id)
+                    .createdDate(createdDate)
+                    .modifiedDate(modifiedDate)
+                    .username(username)
+                    .password(password)
+                    .apiKey(apiKey)
+                    .nickname(nickname)
+                    .build();
+        }
+    }
+
+    private final boolean enabled;
+    private final Cache<Long, Snapshot> byId;
+    private final Cache<String, Long> idByApiKey;
+    private final Cache<String, Long> idByUsername;
+
+    private final AtomicLong generation = new AtomicLong();
+
+    public MemberCache(
+            @Value("${custom.member.cache.enabled}") boolean enabled,
+            @Value("${custom.member.cache.max-size}") long maxSize,
+            @Value("${custom.member.cache.ttl}") Duration ttl,
+            MeterRegistry meterRegistry
+    ) {
+        this.enabled = enabled;
+        this.byId = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.idByApiKey = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+        this.idByUsername = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, byId, "member");
+    }
+
+    public Optional<Member> getById(long id, Supplier<Optional<Member>> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+
+        Snapshot snapshot = byId.getIfPresent(id);
+
+        if (snapshot != null) {
+            return Optional.of(snapshot.toMember());
+        }
+
+        return load(loader);
+    }
+
+    public Optional<Member> getByApiKey(String apiKey, Supplier<Optional<Member>> loader) {
+        return getByIndex(idByApiKey, apiKey, Snapshot::apiKey, loader);
+    }
+
+    public Optional<Member> getByUsername(String username, Supplier<Optional<Member>> loader) {
+        return getByIndex(idByUsername, username, Snapshot::username, loader);
+    }
+
+    // 보조 색인이 가리키는 스냅샷의 값이 다르면(회원 정보가 바뀐 뒤) 없는 것으로 본다.
+    private Optional<Member> getByIndex(Cache<String, Long> index, String key, Function<Snapshot, String> keyOf, Supplier<Optional<Member>> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+
+        Long id = index.getIfPresent(key);
+        Snapshot snapshot = id == null ? null : byId.getIfPresent(id);
+
+        if (snapshot != null && key.equals(keyOf.apply(snapshot))) {
+            return Optional.of(snapshot.toMember());
+        }
+
+        return load(loader);
+    }
+
+    private Optional<Member> load(Supplier<Optional<Member>> loader) {
+        long startGeneration = generation.get();
+        Optional<Member> opMember = loader.get();
+
+        opMember.ifPresent(member -> {
+            Snapshot snapshot = new Snapshot(member);
+
+            Utils.Tx.afterCommit(() -> put(snapshot, startGeneration));
+        });
+
+        return opMember;
+    }
+
+    private void put(Snapshot snapshot, long startGeneration) {
+        if (generation.get() != startGeneration) {
+            return;
+        }
+
+        byId.put(snapshot.id(), snapshot);
+        idByApiKey.put(snapshot.apiKey(), snapshot.id());
+        idByUsername.put(snapshot.username(), snapshot.id());
+
+        // 넣는 사이에 무효화가 지나갔다면 되돌린다.
+        if (generation.get() != startGeneration) {
+            byId.invalidate(snapshot.id());
+        }
+    }
+
+    // 회원 정보를 바꾸는 쪽에서 호출한다. 지금 한 번, 커밋된 뒤에 한 번 더 지운다.
+    public void invalidate(long id) {
+        evict(id);
+        Utils.Tx.afterCommit(() -> evict(id));
+    }
+
+    private void evict(long id) {
+        generation.incrementAndGet();
+        byId.invalidate(id);
+    }
+
+    public void clear() {
+        generation.incrementAndGet();
+        byId.invalidateAll();
+        idByApiKey.invalidateAll();
+        idByUsername.invalidateAll();
+    }
+}
@@ -1,12 +1,23 @@
 package com.example.restapi.domain.member.member.service;
 
+import com.example.restapi.domain.member.member.dto.RefreshedAccessToken;
 import com.example.restapi.domain.member.member.entity.Member;
+import com.example.restapi.domain.member.member.event.MemberJoinedEvent;
+import com.example.restapi.domain.member.member.event.MemberNicknameChangedEvent;
 import com.example.restapi.domain.member.member.repository.MemberRepository;
+import com.example.restapi.domain.member.revocation.service.RevocationService;
+import com.example.restapi.global.exception.ServiceException;
+import com.example.restapi.standard.util.Utils;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.time.LocalDateTime;
 import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
@@ -14,33 +25,80 @@ public class MemberService {
 
     private final MemberRepository memberRepository;
     private final AuthTokenService authTokenService;
-
+    private final MemberCache memberCache;
+    private final RefreshedAccessTokenCache refreshedAccessTokenCache;
+    private final RevocationService revocationService;
+    private final PasswordHasher passwordHasher;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 회원과 함께 만들어야 하는 것(글 카운터 등)은 MemberJoinedEvent 를 받아 만든다.
+    // bcrypt 계산 동안 커넥션을 잡지 않도록 메서드 전체를 트랜잭션으로 묶지 않는다.
     public Member join(String username, String password, String nickname) {
 
         Member member = Member.builder()
                 .username(username)
-                .password(password)
+                .password(passwordHasher.encode(password))
                 .apiKey(username)
                 .nickname(nickname)
                 .build();
 
-        return memberRepository.save(member);
+        memberRepository.save(member);
+        eventPublisher.publishEvent(new MemberJoinedEvent(member.getId()));
+
+        return member;
+    }
+
+    // 예전에 평문으로 저장되었거나 지금보다 낮은 비용으로 해시된 비밀번호는 로그인에 성공했을 때 다시 해시한다.
+    public Member login(String username, String password) {
+        Member member = findByUsername(username).orElseThrow(
+                () -> new ServiceException("401-1", "잘못된 아이디입니다.")
+        );
+
+        if (!passwordHasher.matches(password, member.getPassword())) {
+            throw new ServiceException("401-2", "비밀번호가 일치하지 않습니다.");
+        }
+
+        if (passwordHasher.needsUpgrade(member.getPassword())) {
+            member.setPassword(passwordHasher.encode(password));
+            memberRepository.updatePassword(member.getId(), member.getPassword(), LocalDateTime.now());
+            memberCache.invalidate(member.getId());
+        }
+
+        return member;
+    }
+
+    // 글/댓글에 복사된 작성자 이름은 커밋 이후 AuthorNameSyncService 가 따라서 갱신한다.
+    // member 는 캐시의 스냅샷일 수 있으므로 닉네임 컬럼만 고친다. (넘겨받은 객체는 응답용으로 같이 바꾼다.)
+    @Transactional
+    public void modifyNickname(Member member, String nickname) {
+        if (member.getNickname().equals(nickname)) {
+            return;
+        }
+
+        member.setNickname(nickname);
+        memberRepository.updateNickname(member.getId(), nickname, LocalDateTime.now());
+        memberCache.invalidate(member.getId());
+        refreshedAccessTokenCache.invalidate(member.getApiKey());
+
+        eventPublisher.publishEvent(new MemberNicknameChangedEvent(member.getId()));
     }
 
     public long count() {
         return memberRepository.count();
     }
 
+    // 아래 조회는 회원 캐시를 거치므로 영속 상태가 아닌(detached) 회원을 돌려줄 수 있다.
+    // 회원 정보를 바꾸는 메서드는 저장 후 memberCache.invalidate 를 호출해야 한다.
     public Optional<Member> findByUsername(String username) {
-        return memberRepository.findByUsername(username);
+        return memberCache.getByUsername(username, () -> memberRepository.findByUsername(username));
     }
 
     public Optional<Member> findById(long id) {
-        return memberRepository.findById(id);
+        return memberCache.getById(id, () -> memberRepository.findById(id));
     }
 
     public Optional<Member> findByApiKey(String apiKey) {
-        return memberRepository.findByApiKey(apiKey);
+        return memberCache.getByApiKey(apiKey, () -> memberRepository.findByApiKey(apiKey));
     }
 
     public String getAuthToken(Member member) {
@@ -48,7 +106,12 @@ public class MemberService {
     }
 
     public Optional<Member> getMemberByAccessToken(String accessToken) {
-        Map<String, Object> payload = authTokenService.getPayload(accessToken);
+        return getMemberByAccessToken(accessToken, Utils.Hash.sha256(accessToken));
+    }
+
+    // accessTokenDigest 는 accessToken 의 SHA-256 (인증 필터에서 한 번만 계산해서 넘긴다.)
+    public Optional<Member> getMemberByAccessToken(String accessToken, String accessTokenDigest) {
+        Map<String, Object> payload = authTokenService.getPayload(accessToken, accessTokenDigest);
 
         if (payload == null) {
             return Optional.empty();
@@ -58,6 +121,10 @@ public class MemberService {
         String username = (String)payload.get("username");
         String nickname = (String) payload.get("nickname");
 
+        if (revocationService.isMemberRevoked(id, (long) payload.get("iatMs"))) {
+            return Optional.empty();
+        }
+
         return Optional.of(Member.builder()
                 .id(id)
                 .username(username)
@@ -68,4 +135,69 @@ public class MemberService {
     public String genAccessToken(Member member) {
         return authTokenService.genAccessToken(member);
     }
-}
\ No newline at end of file
+
+    // 액세스 토큰이 유효하지 않을 때 apiKey 로 새 토큰을 발급한다.
+    // 같은 apiKey 의 동시 요청과 잠시 뒤의 요청은 캐시에 있는 같은 토큰을 받는다.
+    public Optional<RefreshedAccessToken> refreshAccessToken(String apiKey) {
+        return refreshedAccessTokenCache.get(apiKey, () -> findByApiKey(apiKey)
+                .map(member -> new RefreshedAccessToken(member, authTokenService.genAccessToken(member)))
+        );
+    }
+
+    // 로그아웃한 액세스 토큰은 만료될 때까지 다시 쓸 수 없다.
+    // 같은 apiKey 로 방금 다시 발급해 둔 토큰이 이 토큰일 수 있으므로 그것도 지운다.
+    public void revokeAccessToken(String apiKey, String accessToken) {
+        refreshedAccessTokenCache.invalidate(apiKey);
+
+        Instant expiresAt = authTokenService.getExpiration(accessToken);
+
+        if (expiresAt == null) {
+            return;
+        }
+
+        revocationService.revokeAccessToken(accessToken, expiresAt);
+    }
+
+    // 로그아웃. 액세스 토큰을 폐기하고, 그 apiKey 로 다시 발급받지 못하도록 apiKey 도 새로 만든다.
+    // apiKey 는 회원마다 하나이므로 다른 기기에서도 액세스 토큰이 만료되면 다시 로그인해야 한다.
+    // 로그아웃 경로는 인증 없이 열려 있으므로, 유효한 액세스 토큰의 회원과 apiKey 의 회원이 같을 때만 바꾼다.
+    // (apiKey 만 알아서는 다른 회원을 로그아웃시킬 수 없다.)
+    @Transactional
+    public void logout(String apiKey, String accessToken) {
+        Optional<Member> opTokenMember = getMemberByAccessToken(accessToken);
+
+        if (opTokenMember.isEmpty()) {
+            return;
+        }
+
+        revokeAccessToken(apiKey, accessToken);
+
+        // 캐시의 스냅샷이 아니라 지금 DB 에 있는 회원으로 바꾼다.
+        memberRepository.findByApiKey(apiKey)
+                .filter(member -> member.getId().equals(opTokenMember.get().getId()))
+                .ifPresent(member -> {
+                    member.setApiKey(UUID.randomUUID().toString());
+                    memberCache.invalidate(member.getId());
+
+                    revocationService.revokeApiKey(apiKey);
+                });
+    }
+
+    // 유출 등으로 회원의 인증 정보를 모두 끊는다.
+    // apiKey 를 새로 만들고, 이전 apiKey 와 지금까지 발급된 그 회원의 액세스 토큰을 폐기한다.
+    @Transactional
+    public void revokeCredentials(Member member) {
+        // 넘겨받은 회원의 apiKey 는 오래된 값일 수 있으므로 DB 의 현재 값을 폐기한다.
+        String oldApiKey = memberRepository.findById(member.getId())
+                .map(Member::getApiKey)
+                .orElse(member.getApiKey());
+
+        member.setApiKey(UUID.randomUUID().toString());
+        memberRepository.updateApiKey(member.getId(), member.getApiKey(), LocalDateTime.now());
+        memberCache.invalidate(member.getId());
+        refreshedAccessTokenCache.invalidate(oldApiKey);
+
+        revocationService.revokeApiKey(oldApiKey);
+        revocationService.revokeMember(member.getId());
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.restapi.domain.member.member.service;
+
+import com.example.restapi.global.exception.ServiceException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 비밀번호 해시(bcrypt)는 CPU 를 많이 쓰므로 요청 스레드가 아닌 전용 풀에서 돌린다.
+// - 풀 크기와 대기열이 정해져 있어 로그인이 몰려도 다른 요청이 쓸 CPU 를 다 가져가지 않는다.
+// - 대기열이 차거나 timeout 안에 끝나지 않으면 503 으로 바로 실패한다.
+// - 저장 형식은 "{bcrypt}..." 이고, 이 접두사로 시작하지 않는 값은 모두 예전에 평문으로 저장된 비밀번호로 본다. (로그인할 때 다시 해시한다.)
+//   "{" 로 시작하는 평문 비밀번호도 있으므로 "{" 만으로는 판단하지 않는다.
+@Component
+public class PasswordHasher {
+
+    private static final String ENCODED_PREFIX = "{bcrypt}";
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final Duration timeout;
+
+    public PasswordHasher(
+            @Value("${custom.password.bcrypt-strength}") int strength,
+            @Value("${custom.password.hasher.threads}") int threads,
+            @Value("${custom.password.hasher.queue-capacity}") int queueCapacity,
+            @Value("${custom.password.hasher.timeout}") Duration timeout,
+            MeterRegistry meterRegistry
+    ) {
+        this.passwordEncoder = new DelegatingPasswordEncoder("bcrypt", Map.of("bcrypt", new BCryptPasswordEncoder(strength)));
+        this.timeout = timeout;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                threads,
+                threads,
+                0,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hasher-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        ExecutorServiceMetrics.monitor(meterRegistry, executor, "passwordHasher");
+    }
+
+    public String encode(String rawPassword) {
+        return run(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    public boolean matches(String rawPassword, String encodedPassword) {
+        if (encodedPassword == null) {
+            return false;
+        }
+
+        if (isLegacy(encodedPassword)) {
+            return MessageDigest.isEqual(
+                    rawPassword.getBytes(StandardCharsets.UTF_8),
+                    encodedPassword.getBytes(StandardCharsets.UTF_8)
+            );
+        }
+
+        return run(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    // 평문이거나 지금 설정보다 낮은 비용으로 해시된 값이면 true
+    public boolean needsUpgrade(String encodedPassword) {
+        return isLegacy(encodedPassword) || passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    private boolean isLegacy(String encodedPassword) {
+        return !encodedPassword.startsWith(ENCODED_PREFIX);
+    }
+
+    private <T> T run(Callable<T> task) {
+        Future<T> future;
+
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            throw new ServiceException("503-1", "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.");
+        }
+
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new ServiceException("503-1", "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.");
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ServiceException("503-1", "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.");
+        } catch (ExecutionException e) {
+            throw new RuntimeException(e.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
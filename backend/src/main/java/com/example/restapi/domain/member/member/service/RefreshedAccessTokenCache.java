@@ -0,0 +1,47 @@
+package com.example.restapi.domain.member.member.service;
+
+import com.example.restapi.domain.member.member.dto.RefreshedAccessToken;
+import com.example.restapi.standard.util.Utils;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+// 액세스 토큰이 만료된 클라이언트가 apiKey 로 토큰을 다시 받을 때, 방금 발급한 토큰을 apiKey 별로 잠깐 보관한다.
+// 같은 apiKey 로 동시에 들어온 요청은 한 요청의 발급을 기다렸다가 같은 토큰을 받는다. (회원 조회와 서명은 한 번)
+// 없는 apiKey 는 보관하지 않는다.
+@Component
+public class RefreshedAccessTokenCache {
+
+    private final Cache<String, RefreshedAccessToken> byApiKey;
+
+    public RefreshedAccessTokenCache(
+            @Value("${custom.jwt.refresh-cache.max-size}") long maxSize,
+            @Value("${custom.jwt.refresh-cache.ttl}") Duration ttl,
+            MeterRegistry meterRegistry
+    ) {
+        this.byApiKey = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, byApiKey, "refreshedAccessToken");
+    }
+
+    public Optional<RefreshedAccessToken> get(String apiKey, Supplier<Optional<RefreshedAccessToken>> minter) {
+        return Optional.ofNullable(byApiKey.get(apiKey, _ -> minter.get().orElse(null)));
+    }
+
+    // 토큰에 담긴 회원 정보가 바뀌면 호출한다. 지금 한 번, 커밋된 뒤에 한 번 더 지운다.
+    public void invalidate(String apiKey) {
+        byApiKey.invalidate(apiKey);
+        Utils.Tx.afterCommit(() -> byApiKey.invalidate(apiKey));
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.restapi.domain.member.revocation.entity;
+
+import com.example.restapi.global.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+import java.time.LocalDateTime;
+
+// 폐기된 토큰/apiKey/회원. 토큰 원문은 저장하지 않는다.
+// expiresAt 이 지나면 폐기 대상 토큰도 이미 만료되었으므로 지워도 된다.
+@Entity
+@Table(indexes = {
+        @Index(name = "idx_revocation_revoked_at", columnList = "revoked_at"),
+        @Index(name = "idx_revocation_expires_at", columnList = "expires_at")
+})
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@SuperBuilder
+public class Revocation extends BaseEntity {
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20, nullable = false)
+    private RevocationType type;
+
+    @Column(name = "revocation_value", length = 100, nullable = false)
+    private String value;
+
+    @Column(name = "revoked_at", nullable = false)
+    private LocalDateTime revokedAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,10 @@
+package com.example.restapi.domain.member.revocation.entity;
+
+public enum RevocationType {
+    // 액세스 토큰 한 개 (값은 토큰의 SHA-256)
+    ACCESS_TOKEN,
+    // apiKey (값은 apiKey 의 SHA-256). 이 apiKey 로는 토큰을 다시 발급하지 않는다.
+    API_KEY,
+    // 회원 (값은 회원 id). revokedAt 이전에 발급된 그 회원의 토큰은 모두 무효
+    MEMBER
+}
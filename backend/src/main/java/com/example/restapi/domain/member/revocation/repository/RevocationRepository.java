@@ -0,0 +1,18 @@
+package com.example.restapi.domain.member.revocation.repository;
+
+import com.example.restapi.domain.member.revocation.entity.Revocation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface RevocationRepository extends JpaRepository<Revocation, Long> {
+
+    List<Revocation> findByRevokedAtGreaterThanEqualAndExpiresAtGreaterThan(LocalDateTime revokedAt, LocalDateTime now);
+
+    @Modifying
+    @Query("delete from Revocation r where r.expiresAt <= :now")
+    int deleteExpired(LocalDateTime now);
+}
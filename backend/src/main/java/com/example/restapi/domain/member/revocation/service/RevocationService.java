@@ -0,0 +1,195 @@
+package com.example.restapi.domain.member.revocation.service;
+
+import com.example.restapi.domain.member.revocation.entity.Revocation;
+import com.example.restapi.domain.member.revocation.entity.RevocationType;
+import com.example.restapi.domain.member.revocation.repository.RevocationRepository;
+import com.example.restapi.standard.util.Utils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 폐기 목록. DB 에 저장하고 메모리에 블룸 필터 + 정확한 집합으로 옮겨 두어, 인증 때는 DB 를 읽지 않는다.
+// - 대부분의 요청은 블룸 필터에서 "없음" 으로 끝나고, "있을 수도 있음" 일 때만 집합을 확인한다.
+// - 다른 인스턴스에서 폐기한 항목은 sync 주기마다 revokedAt 기준으로 겹치게 읽어 온다. (id 는 인스턴스마다 미리 받아 두므로 순서가 맞지 않는다.)
+// - 만료된 항목은 purge 때 DB 와 집합에서 지우고, 블룸 필터는 남은 항목으로 다시 만든다.
+@Slf4j
+@Service
+public class RevocationService {
+
+    private record Entry(long revokedAt, long expiresAt) {
+        Entry merge(Entry other) {
+            return new Entry(Math.max(revokedAt, other.revokedAt), Math.max(expiresAt, other.expiresAt));
+        }
+    }
+
+    private final RevocationRepository revocationRepository;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+    private final Duration expireDuration;
+    private final Duration syncOverlap;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private volatile Utils.BloomFilter bloomFilter;
+    // 다음 sync 에서 이 시각(밀리초) 이후에 폐기된 항목을 읽는다.
+    private volatile long syncedUntil = 0;
+
+    public RevocationService(
+            RevocationRepository revocationRepository,
+            @Value("${custom.revocation.bloom-filter.expected-insertions}") long expectedInsertions,
+            @Value("${custom.revocation.bloom-filter.false-positive-rate}") double falsePositiveRate,
+            @Value("${custom.jwt.expire-seconds}") int expireSeconds,
+            @Value("${custom.revocation.sync-overlap}") Duration syncOverlap
+    ) {
+        this.revocationRepository = revocationRepository;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.expireDuration = Duration.ofSeconds(expireSeconds);
+        this.syncOverlap = syncOverlap;
+        this.bloomFilter = new Utils.BloomFilter(expectedInsertions, falsePositiveRate);
+    }
+
+    // 액세스 토큰은 토큰이 만료될 때까지만 폐기 목록에 둔다.
+    @Transactional
+    public void revokeAccessToken(String accessToken, Instant expiresAt) {
+        revoke(RevocationType.ACCESS_TOKEN, Utils.Hash.sha256(accessToken), expiresAt);
+    }
+
+    // apiKey 와 회원은 그 시점에 발급될 수 있었던 마지막 토큰이 만료될 때까지 둔다.
+    @Transactional
+    public void revokeApiKey(String apiKey) {
+        revoke(RevocationType.API_KEY, Utils.Hash.sha256(apiKey), Instant.now().plus(expireDuration));
+    }
+
+    @Transactional
+    public void revokeMember(long memberId) {
+        revoke(RevocationType.MEMBER, String.valueOf(memberId), Instant.now().plus(expireDuration));
+    }
+
+    private void revoke(RevocationType type, String value, Instant expiresAt) {
+        Instant now = Instant.now();
+
+        revocationRepository.save(Revocation.builder()
+                .type(type)
+                .value(value)
+                .revokedAt(toLocalDateTime(now))
+                .expiresAt(toLocalDateTime(expiresAt))
+                .build());
+
+        Entry entry = new Entry(now.toEpochMilli(), expiresAt.toEpochMilli());
+
+        Utils.Tx.afterCommit(() -> add(key(type, value), entry));
+    }
+
+    public boolean isAccessTokenRevoked(String accessToken) {
+        return isAccessTokenDigestRevoked(Utils.Hash.sha256(accessToken));
+    }
+
+    // accessTokenDigest 는 액세스 토큰의 SHA-256
+    public boolean isAccessTokenDigestRevoked(String accessTokenDigest) {
+        return find(key(RevocationType.ACCESS_TOKEN, accessTokenDigest)) != null;
+    }
+
+    public boolean isApiKeyRevoked(String apiKey) {
+        return find(key(RevocationType.API_KEY, Utils.Hash.sha256(apiKey))) != null;
+    }
+
+    // issuedAtMillis 는 토큰의 발급 시각 (밀리초). 폐기 직후 같은 초에 다시 발급된 토큰은 유효하다.
+    public boolean isMemberRevoked(long memberId, long issuedAtMillis) {
+        Entry entry = find(key(RevocationType.MEMBER, String.valueOf(memberId)));
+
+        return entry != null && issuedAtMillis <= entry.revokedAt();
+    }
+
+    private Entry find(String key) {
+        if (!bloomFilter.mightContain(key)) {
+            return null;
+        }
+
+        Entry entry = entries.get(key);
+
+        if (entry == null || entry.expiresAt() <= System.currentTimeMillis()) {
+            return null;
+        }
+
+        return entry;
+    }
+
+    private static String key(RevocationType type, String value) {
+        return type.name() + ":" + value;
+    }
+
+    // 추가와 블룸 필터 재생성이 엇갈리면 새 필터에서 항목이 빠질 수 있으므로 둘은 같은 잠금 안에서 한다.
+    private synchronized void add(String key, Entry entry) {
+        entries.merge(key, entry, Entry::merge);
+        bloomFilter.add(key);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${custom.revocation.sync-interval}", initialDelayString = "${custom.revocation.sync-interval}")
+    public void sync() {
+        long startedAt = System.currentTimeMillis();
+        // 커밋이 늦은 행을 놓치지 않도록 지난 sync 보다 조금 앞에서부터 읽는다.
+        long from = Math.max(0, syncedUntil - syncOverlap.toMillis());
+
+        for (Revocation revocation : revocationRepository.findByRevokedAtGreaterThanEqualAndExpiresAtGreaterThan(
+                toLocalDateTime(Instant.ofEpochMilli(from)),
+                toLocalDateTime(Instant.ofEpochMilli(startedAt))
+        )) {
+            add(
+                    key(revocation.getType(), revocation.getValue()),
+                    new Entry(toEpochMilli(revocation.getRevokedAt()), toEpochMilli(revocation.getExpiresAt()))
+            );
+        }
+
+        syncedUntil = startedAt;
+    }
+
+    @Scheduled(fixedDelayString = "${custom.revocation.purge-interval}", initialDelayString = "${custom.revocation.purge-interval}")
+    @Transactional
+    public void purge() {
+        long now = System.currentTimeMillis();
+        int deleted = revocationRepository.deleteExpired(toLocalDateTime(Instant.ofEpochMilli(now)));
+
+        rebuild(now);
+
+        if (deleted > 0) {
+            log.info("만료된 폐기 항목 {}건을 지웠습니다.", deleted);
+        }
+    }
+
+    // 블룸 필터는 항목을 뺄 수 없으므로 남은 항목으로 새로 만든다. 항목이 예상보다 많으면 크기를 늘린다.
+    private synchronized void rebuild(long now) {
+        entries.values().removeIf(entry -> entry.expiresAt() <= now);
+
+        Utils.BloomFilter rebuilt = new Utils.BloomFilter(Math.max(expectedInsertions, entries.size() * 2L), falsePositiveRate);
+        entries.keySet().forEach(rebuilt::add);
+
+        bloomFilter = rebuilt;
+    }
+
+    // 메모리에 옮겨 둔 항목만 비운다. 다음 sync 는 처음부터 다시 읽는다.
+    public synchronized void clear() {
+        entries.clear();
+        bloomFilter = new Utils.BloomFilter(expectedInsertions, falsePositiveRate);
+        syncedUntil = 0;
+    }
+
+    private static LocalDateTime toLocalDateTime(Instant instant) {
+        return LocalDateTime.ofInstant(instant, ZoneId.systemDefault());
+    }
+
+    private static long toEpochMilli(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
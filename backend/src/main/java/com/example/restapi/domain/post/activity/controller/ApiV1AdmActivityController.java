@@ -0,0 +1,59 @@
+package com.example.restapi.domain.post.activity.controller;
+
+import com.example.restapi.domain.post.activity.dto.ActivityBucketDto;
+import com.example.restapi.domain.post.activity.entity.ActivityGranularity;
+import com.example.restapi.domain.post.activity.service.ActivityRollupService;
+import com.example.restapi.global.dto.RsData;
+import com.example.restapi.global.exception.ServiceException;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+@Tag(name = "ApiV1AdmActivityController", description = "관리자용 활동 통계 API")
+@SecurityRequirement(name = "bearerAuth")
+@RestController
+@RequestMapping("/api/v1/adm/activity")
+@RequiredArgsConstructor
+public class ApiV1AdmActivityController {
+
+    private static final int MAX_HOUR_RANGE_DAYS = 31;
+    private static final int MAX_DAY_RANGE_DAYS = 366 * 5;
+
+    private final ActivityRollupService activityRollupService;
+
+    @Operation(
+            summary = "기간별 글/댓글 작성 수",
+            description = "from ~ to(포함) 날짜 범위를 시간(HOUR) 또는 일(DAY) 단위로 집계. 시간 단위는 보존 기간 안에서만 값이 있음"
+    )
+    @GetMapping
+    public RsData<List<ActivityBucketDto>> getItems(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "DAY") ActivityGranularity granularity
+    ) {
+        long days = ChronoUnit.DAYS.between(from, to) + 1;
+        int maxDays = granularity == ActivityGranularity.HOUR ? MAX_HOUR_RANGE_DAYS : MAX_DAY_RANGE_DAYS;
+
+        if (days < 1 || days > maxDays) {
+            throw new ServiceException("400-1", "조회 기간은 1일 이상 %d일 이하여야 합니다.".formatted(maxDays));
+        }
+
+        List<ActivityBucketDto> buckets = activityRollupService.getBuckets(granularity, from, to);
+
+        return new RsData<>(
+                "200-1",
+                "활동 통계 조회가 완료되었습니다.",
+                buckets
+        );
+    }
+}
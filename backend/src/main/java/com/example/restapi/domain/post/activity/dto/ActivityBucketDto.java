@@ -0,0 +1,17 @@
+package com.example.restapi.domain.post.activity.dto;
+
+import org.springframework.lang.NonNull;
+
+import java.time.LocalDateTime;
+
+public record ActivityBucketDto(
+        @NonNull LocalDateTime bucketStart,
+        @NonNull long postCount,
+        @NonNull long publishedPostCount,
+        @NonNull long listedPostCount,
+        @NonNull long commentCount
+) {
+    public ActivityBucketDto(LocalDateTime bucketStart, ActivityCounts counts) {
+        this(bucketStart, counts.postCount(), counts.publishedPostCount(), counts.listedPostCount(), counts.commentCount());
+    }
+}
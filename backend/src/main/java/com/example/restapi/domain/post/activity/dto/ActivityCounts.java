@@ -0,0 +1,21 @@
+package com.example.restapi.domain.post.activity.dto;
+
+import com.example.restapi.domain.post.activity.entity.ActivityRollup;
+
+public record ActivityCounts(long postCount, long publishedPostCount, long listedPostCount, long commentCount) {
+
+    public static final ActivityCounts ZERO = new ActivityCounts(0, 0, 0, 0);
+
+    public ActivityCounts(ActivityRollup rollup) {
+        this(rollup.getPostCount(), rollup.getPublishedPostCount(), rollup.getListedPostCount(), rollup.getCommentCount());
+    }
+
+    public ActivityCounts plus(ActivityCounts other) {
+        return new ActivityCounts(
+                postCount + other.postCount,
+                publishedPostCount + other.publishedPostCount,
+                listedPostCount + other.listedPostCount,
+                commentCount + other.commentCount
+        );
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.restapi.domain.post.activity.entity;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+public enum ActivityGranularity {
+    HOUR(ChronoUnit.HOURS),
+    DAY(ChronoUnit.DAYS);
+
+    private final ChronoUnit unit;
+
+    ActivityGranularity(ChronoUnit unit) {
+        this.unit = unit;
+    }
+
+    // 시각이 속한 버킷의 시작 시각
+    public LocalDateTime truncate(LocalDateTime dateTime) {
+        return dateTime.truncatedTo(unit);
+    }
+
+    public LocalDateTime next(LocalDateTime bucketStart) {
+        return bucketStart.plus(1, unit);
+    }
+}
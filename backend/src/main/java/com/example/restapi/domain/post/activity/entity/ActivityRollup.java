@@ -0,0 +1,32 @@
+package com.example.restapi.domain.post.activity.entity;
+
+import com.example.restapi.global.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+import java.time.LocalDateTime;
+
+// 시간/일 단위로 미리 집계한 글/댓글 작성 수. 공개/목록 노출 여부는 작성 시점 기준이다.
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_activity_rollup_bucket", columnNames = {"granularity", "bucket_start"}))
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@SuperBuilder
+public class ActivityRollup extends BaseEntity {
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 10, nullable = false)
+    private ActivityGranularity granularity;
+
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+
+    private long postCount;
+    private long publishedPostCount;
+    private long listedPostCount;
+    private long commentCount;
+}
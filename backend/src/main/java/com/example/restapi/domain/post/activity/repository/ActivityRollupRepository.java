@@ -0,0 +1,35 @@
+package com.example.restapi.domain.post.activity.repository;
+
+import com.example.restapi.domain.post.activity.entity.ActivityGranularity;
+import com.example.restapi.domain.post.activity.entity.ActivityRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ActivityRollupRepository extends JpaRepository<ActivityRollup, Long> {
+
+    // 버킷 행을 읽지 않고 증가. 행이 없으면 0 을 반환한다.
+    @Modifying
+    @Query("""
+            update ActivityRollup r
+            set r.postCount = r.postCount + :postCount,
+                r.publishedPostCount = r.publishedPostCount + :publishedPostCount,
+                r.listedPostCount = r.listedPostCount + :listedPostCount,
+                r.commentCount = r.commentCount + :commentCount
+            where r.granularity = :granularity and r.bucketStart = :bucketStart
+            """)
+    int increase(ActivityGranularity granularity, LocalDateTime bucketStart, long postCount, long publishedPostCount, long listedPostCount, long commentCount);
+
+    // (granularity, bucket_start) 유니크 인덱스로 범위 조회
+    @Query("""
+            select r from ActivityRollup r
+            where r.granularity = :granularity and r.bucketStart >= :from and r.bucketStart < :to
+            order by r.bucketStart
+            """)
+    List<ActivityRollup> findRange(ActivityGranularity granularity, LocalDateTime from, LocalDateTime to);
+
+    List<ActivityRollup> findByGranularityAndBucketStartLessThan(ActivityGranularity granularity, LocalDateTime bucketStart);
+}
@@ -0,0 +1,193 @@
+package com.example.restapi.domain.post.activity.service;
+
+import com.example.restapi.domain.post.activity.dto.ActivityBucketDto;
+import com.example.restapi.domain.post.activity.dto.ActivityCounts;
+import com.example.restapi.domain.post.activity.entity.ActivityGranularity;
+import com.example.restapi.domain.post.activity.entity.ActivityRollup;
+import com.example.restapi.domain.post.activity.repository.ActivityRollupRepository;
+import com.example.restapi.domain.post.comment.entity.Comment;
+import com.example.restapi.domain.post.post.entity.Post;
+import com.example.restapi.standard.util.Utils;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 글/댓글 작성 수를 시간 버킷으로 미리 집계한다.
+// 작성이 커밋되면 메모리의 시간 버킷에 더해 두고, flush 주기마다 버킷별로 UPDATE 한 번씩 DB 에 반영한다.
+// (작성마다 같은 버킷 행을 갱신하면 그 행에 락 경합이 생긴다.)
+// 보존 기간이 지난 시간 버킷은 일 버킷으로 합치고 지운다.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ActivityRollupService {
+
+    private final ActivityRollupRepository activityRollupRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    // 아직 DB 에 반영하지 않은 시간 버킷별 증가분
+    private final Map<LocalDateTime, ActivityCounts> pending = new ConcurrentHashMap<>();
+
+    @Value("${custom.activity.hourly-retention-days}")
+    private int hourlyRetentionDays;
+
+    // 아래 메서드들은 작성 트랜잭션 안에서 호출한다. 반영은 커밋된 뒤에 한다.
+    public void onPostWrite(Post post) {
+        add(post.getCreatedDate(), postCounts(post));
+    }
+
+    public void onPostWriteAll(List<Post> posts) {
+        for (Post post : posts) {
+            add(post.getCreatedDate(), postCounts(post).plus(new ActivityCounts(0, 0, 0, post.getComments().size())));
+        }
+    }
+
+    public void onCommentWrite(Comment comment) {
+        add(comment.getCreatedDate(), new ActivityCounts(0, 0, 0, 1));
+    }
+
+    private ActivityCounts postCounts(Post post) {
+        return new ActivityCounts(1, post.isPublished() ? 1 : 0, post.isListed() ? 1 : 0, 0);
+    }
+
+    // 아직 flush 되지 않은 엔티티는 생성 시각이 없으므로 현재 시각을 쓴다.
+    private void add(LocalDateTime createdDate, ActivityCounts counts) {
+        LocalDateTime hour = ActivityGranularity.HOUR.truncate(createdDate != null ? createdDate : LocalDateTime.now());
+
+        Utils.Tx.afterCommit(() -> pending.merge(hour, counts, ActivityCounts::plus));
+    }
+
+    @Scheduled(fixedDelayString = "${custom.activity.flush-interval}")
+    @PreDestroy
+    public void flush() {
+        for (LocalDateTime hour : pending.keySet()) {
+            ActivityCounts counts = pending.remove(hour);
+
+            if (counts == null) {
+                continue;
+            }
+
+            try {
+                upsert(hour, counts);
+            } catch (RuntimeException e) {
+                // 다음 flush 때 다시 시도
+                pending.merge(hour, counts, ActivityCounts::plus);
+                log.warn("활동 집계 반영에 실패했습니다. : {}", hour, e);
+            }
+        }
+    }
+
+    private void upsert(LocalDateTime hour, ActivityCounts counts) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        try {
+            transactionTemplate.executeWithoutResult(_ -> add(ActivityGranularity.HOUR, hour, counts));
+        } catch (DataIntegrityViolationException e) {
+            // 다른 인스턴스가 같은 버킷 행을 먼저 만든 경우
+            transactionTemplate.executeWithoutResult(_ -> increase(ActivityGranularity.HOUR, hour, counts));
+        }
+    }
+
+    private void add(ActivityGranularity granularity, LocalDateTime bucketStart, ActivityCounts counts) {
+        if (increase(granularity, bucketStart, counts) > 0) {
+            return;
+        }
+
+        activityRollupRepository.saveAndFlush(
+                ActivityRollup
+                        .builder()
+                        .granularity(granularity)
+                        .bucketStart(bucketStart)
+                        .postCount(counts.postCount())
+                        .publishedPostCount(counts.publishedPostCount())
+                        .listedPostCount(counts.listedPostCount())
+                        .commentCount(counts.commentCount())
+                        .build()
+        );
+    }
+
+    private int increase(ActivityGranularity granularity, LocalDateTime bucketStart, ActivityCounts counts) {
+        return activityRollupRepository.increase(
+                granularity,
+                bucketStart,
+                counts.postCount(),
+                counts.publishedPostCount(),
+                counts.listedPostCount(),
+                counts.commentCount()
+        );
+    }
+
+    // 보존 기간(일)보다 오래된 시간 버킷을 일 버킷으로 합친다. 한 트랜잭션이라 실패하면 다음 주기에 다시 한다.
+    @Scheduled(initialDelayString = "${custom.activity.compact-interval}", fixedDelayString = "${custom.activity.compact-interval}")
+    public void compact() {
+        LocalDateTime cutoff = LocalDate.now().minusDays(hourlyRetentionDays).atStartOfDay();
+
+        Integer compacted = new TransactionTemplate(transactionManager).execute(_ -> {
+            List<ActivityRollup> hourly = activityRollupRepository.findByGranularityAndBucketStartLessThan(ActivityGranularity.HOUR, cutoff);
+            Map<LocalDateTime, ActivityCounts> daily = new TreeMap<>();
+
+            for (ActivityRollup rollup : hourly) {
+                daily.merge(ActivityGranularity.DAY.truncate(rollup.getBucketStart()), new ActivityCounts(rollup), ActivityCounts::plus);
+            }
+
+            daily.forEach((day, counts) -> add(ActivityGranularity.DAY, day, counts));
+            activityRollupRepository.deleteAllInBatch(hourly);
+
+            return hourly.size();
+        });
+
+        if (compacted > 0) {
+            log.info("시간 버킷 {}개를 일 버킷으로 합쳤습니다.", compacted);
+        }
+    }
+
+    // from ~ to(포함) 날짜 범위. 비용은 행 수가 아니라 버킷 수에 비례한다.
+    // 일 단위는 일 버킷과 아직 합쳐지지 않은 시간 버킷을 더하고, 시간 단위는 보존 기간 안에서만 값이 있다.
+    @Transactional(readOnly = true)
+    public List<ActivityBucketDto> getBuckets(ActivityGranularity granularity, LocalDate from, LocalDate to) {
+        LocalDateTime start = from.atStartOfDay();
+        LocalDateTime end = to.plusDays(1).atStartOfDay();
+        Map<LocalDateTime, ActivityCounts> buckets = new TreeMap<>();
+
+        for (LocalDateTime bucketStart = start; bucketStart.isBefore(end); bucketStart = granularity.next(bucketStart)) {
+            buckets.put(bucketStart, ActivityCounts.ZERO);
+        }
+
+        if (granularity == ActivityGranularity.DAY) {
+            for (ActivityRollup rollup : activityRollupRepository.findRange(ActivityGranularity.DAY, start, end)) {
+                buckets.merge(rollup.getBucketStart(), new ActivityCounts(rollup), ActivityCounts::plus);
+            }
+        }
+
+        for (ActivityRollup rollup : activityRollupRepository.findRange(ActivityGranularity.HOUR, start, end)) {
+            buckets.merge(granularity.truncate(rollup.getBucketStart()), new ActivityCounts(rollup), ActivityCounts::plus);
+        }
+
+        pending.forEach((hour, counts) -> {
+            if (!hour.isBefore(start) && hour.isBefore(end)) {
+                buckets.merge(granularity.truncate(hour), counts, ActivityCounts::plus);
+            }
+        });
+
+        List<ActivityBucketDto> result = new ArrayList<>(buckets.size());
+        buckets.forEach((bucketStart, counts) -> result.add(new ActivityBucketDto(bucketStart, counts)));
+
+        return result;
+    }
+}
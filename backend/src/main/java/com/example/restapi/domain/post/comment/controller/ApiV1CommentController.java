@@ -1,22 +1,34 @@
 package com.example.restapi.domain.post.comment.controller;
 
 import com.example.restapi.domain.member.member.entity.Member;
+import com.example.restapi.domain.post.activity.service.ActivityRollupService;
+import com.example.restapi.domain.post.comment.dto.CommentCursor;
 import com.example.restapi.domain.post.comment.dto.CommentDto;
+import com.example.restapi.domain.post.comment.dto.CommentPageDto;
 import com.example.restapi.domain.post.comment.entity.Comment;
+import com.example.restapi.domain.post.comment.service.CommentService;
 import com.example.restapi.domain.post.post.entity.Post;
 import com.example.restapi.domain.post.post.service.PostService;
 import com.example.restapi.global.Rq;
 import com.example.restapi.global.dto.Empty;
 import com.example.restapi.global.dto.RsData;
 import com.example.restapi.global.exception.ServiceException;
+import com.example.restapi.global.security.CurrentActor;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 
 @Tag(name = "ApiV1CommentController", description = "댓글 API")
 @SecurityRequirement(name = "bearerAuth")
@@ -26,24 +38,67 @@ import java.util.List;
 public class ApiV1CommentController {
 
     private final PostService postService;
+    private final CommentService commentService;
+    private final ActivityRollupService activityRollupService;
     private final Rq rq;
 
     @Operation(
             summary = "댓글 목록",
-            description = "게시글의 댓글 목록을 가져옵니다."
+            description = "게시글의 댓글 목록을 가져옵니다. 댓글이 많아도 목록을 만들지 않고 읽는 대로 응답에 씁니다."
+    )
+    @ApiResponse(
+            responseCode = "200",
+            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, array = @ArraySchema(schema = @Schema(implementation = CommentDto.class)))
     )
     @GetMapping
     @Transactional(readOnly = true)
-    public List<CommentDto> getItems(@PathVariable long postId) {
+    public void getItems(@PathVariable long postId, HttpServletResponse response) throws IOException {
 
-        Post post = postService.getItem(postId).orElseThrow(
-                () -> new ServiceException("404-1", "존재하지 않는 게시글입니다.")
+        // 댓글을 읽기 전에 ETag 비교
+        if (rq.checkNotModified(commentService.getListEtag(postId), false)) {
+            return;
+        }
+
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+
+        commentService.writeItems(postId, response.getOutputStream());
+    }
+
+    @Operation(
+            summary = "댓글 목록 (커서)",
+            description = "cursor 파라미터가 있으면 커서 기반 페이징. 첫 페이지는 빈 값, 이후에는 응답의 nextCursor 사용"
+    )
+    @GetMapping(params = "cursor")
+    @Transactional(readOnly = true)
+    public RsData<CommentPageDto> getItemsByCursor(
+            @PathVariable long postId,
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "20") int pageSize) {
+
+        return new RsData<>(
+                "200-1",
+                "댓글 목록 조회가 완료되었습니다.",
+                commentService.getItemsByCursor(postId, CommentCursor.decode(cursor), pageSize)
         );
+    }
+
+    @Operation(
+            summary = "새 댓글 목록",
+            description = "sinceId 보다 나중에 달린 댓글. 다음 확인 때는 응답의 lastId 를 sinceId 로 사용"
+    )
+    @GetMapping(params = {"sinceId", "!cursor"})
+    @Transactional(readOnly = true)
+    public RsData<CommentPageDto> getItemsSince(
+            @PathVariable long postId,
+            @RequestParam long sinceId,
+            @RequestParam(defaultValue = "20") int pageSize) {
 
-        return post.getComments()
-                .stream()
-                .map(CommentDto::new)
-                .toList();
+        return new RsData<>(
+                "200-1",
+                "댓글 목록 조회가 완료되었습니다.",
+                commentService.getItemsSince(postId, sinceId, pageSize)
+        );
     }
 
     @Operation(
@@ -54,13 +109,7 @@ public class ApiV1CommentController {
     @Transactional(readOnly = true)
     public CommentDto getItem(@PathVariable long postId, @PathVariable long id) {
 
-        Post post = postService.getItem(postId).orElseThrow(
-                () -> new ServiceException("404-1", "존재하지 않는 게시글입니다.")
-        );
-
-        Comment comment = post.getCommentById(id);
-
-        return new CommentDto(comment);
+        return commentService.getItemDto(postId, id);
     }
 
 
@@ -72,9 +121,10 @@ public class ApiV1CommentController {
     )
     @PostMapping
     @Transactional
-    public RsData<Empty> write(@PathVariable long postId, @RequestBody WriteReqBody reqBody) {
-        Member actor = rq.getCurrentActor();
-        Comment comment = _write(postId, actor, reqBody.content());
+    public RsData<Empty> write(@PathVariable long postId, @RequestBody WriteReqBody reqBody, @CurrentActor Member actor) {
+        // 토큰의 닉네임은 오래되었을 수 있으므로 작성자 이름은 DB 의 회원 정보로 기록한다.
+        Member realActor = rq.getRealActor(actor);
+        Comment comment = _write(postId, realActor, reqBody.content());
 
         postService.flush();
 
@@ -94,18 +144,12 @@ public class ApiV1CommentController {
     )
     @PutMapping("{id}")
     @Transactional
-    public RsData<Empty> modify(@PathVariable long postId, @PathVariable long id, @RequestBody CommentModifyReqBody reqBody) {
+    public RsData<Empty> modify(@PathVariable long postId, @PathVariable long id, @RequestBody CommentModifyReqBody reqBody, @CurrentActor Member actor) {
 
-        Member actor = rq.getCurrentActor();
-
-        Post post = postService.getItem(postId).orElseThrow(
-                () -> new ServiceException("404-1", "존재하지 않는 게시글입니다.")
-        );
-
-        Comment comment = post.getCommentById(id);
+        Comment comment = commentService.getItem(postId, id);
 
         comment.canModify(actor);
-        comment.modify(reqBody.content());
+        commentService.modify(comment, reqBody.content());
 
         return new RsData<>(
                 "200-1",
@@ -116,17 +160,12 @@ public class ApiV1CommentController {
 
     @DeleteMapping("{id}")
     @Transactional
-    public RsData<Empty> delete(@PathVariable long postId, @PathVariable long id) {
-
-        Member actor = rq.getCurrentActor();
-        Post post = postService.getItem(postId).orElseThrow(
-                () -> new ServiceException("404-1", "존재하지 않는 게시글입니다.")
-        );
+    public RsData<Empty> delete(@PathVariable long postId, @PathVariable long id, @CurrentActor Member actor) {
 
-        Comment comment = post.getCommentById(id);
+        Comment comment = commentService.getItem(postId, id);
 
         comment.canDelete(actor);
-        post.deleteComment(comment);
+        commentService.delete(comment);
 
         return new RsData<>(
                 "200-1",
@@ -141,7 +180,8 @@ public class ApiV1CommentController {
                 () -> new ServiceException("404-1", "존재하지 않는 게시글입니다.")
         );
 
-        Comment comment = post.addComment(actor, content);
+        Comment comment = commentService.write(post, actor, content);
+        activityRollupService.onCommentWrite(comment);
 
         return comment;
     }
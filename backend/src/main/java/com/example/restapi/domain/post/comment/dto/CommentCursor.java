@@ -0,0 +1,35 @@
+package com.example.restapi.domain.post.comment.dto;
+
+import com.example.restapi.global.exception.ServiceException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+// 클라이언트에게는 불투명한 토큰으로 전달되는 keyset 커서. id 보다 나중에 달린(큰) 댓글부터 읽는다.
+public record CommentCursor(long id) {
+
+    public String encode() {
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(("AFTER:" + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 빈 토큰은 첫 페이지를 의미한다.
+    public static CommentCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return new CommentCursor(0);
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+
+            if (!raw.startsWith("AFTER:")) {
+                throw new IllegalArgumentException(raw);
+            }
+
+            return new CommentCursor(Long.parseLong(raw.substring("AFTER:".length())));
+        } catch (RuntimeException e) {
+            throw new ServiceException("400-2", "잘못된 커서입니다.");
+        }
+    }
+}
@@ -24,12 +24,23 @@ public class CommentDto {
     @NonNull
     private LocalDateTime modifiedTime;
 
+    // 엔티티를 읽지 않는 조회(JPQL 생성자 표현식)용
+    public CommentDto(Long id, String content, Long postId, Long authorId, String authorName, LocalDateTime createdTime, LocalDateTime modifiedTime) {
+        this.id = id;
+        this.content = content;
+        this.postId = postId;
+        this.authorId = authorId;
+        this.authorName = authorName;
+        this.createdTime = createdTime;
+        this.modifiedTime = modifiedTime;
+    }
+
     public CommentDto(Comment comment) {
         this.id = comment.getId();
         this.content = comment.getContent();
         this.postId = comment.getPost().getId();
         this.authorId = comment.getAuthor().getId();
-        this.authorName = comment.getAuthor().getNickname();
+        this.authorName = comment.getAuthorName();
         this.createdTime = comment.getCreatedDate();
         this.modifiedTime = comment.getModifiedDate();
     }
@@ -0,0 +1,32 @@
+package com.example.restapi.domain.post.comment.dto;
+
+import lombok.Getter;
+import org.springframework.lang.NonNull;
+
+import java.util.List;
+
+@Getter
+public class CommentPageDto {
+    @NonNull
+    private List<CommentDto> items;
+    @NonNull
+    private int limit;
+    // 다음 페이지 커서, 더 없으면 null
+    private String nextCursor;
+    // 받은 댓글 중 마지막 id (없으면 요청한 위치). 새 댓글을 확인할 때 sinceId 로 보낸다.
+    @NonNull
+    private long lastId;
+
+    // rows 는 limit 보다 하나 더 읽은 결과
+    public CommentPageDto(List<CommentDto> rows, int limit, long afterId) {
+        boolean hasNext = rows.size() > limit;
+
+        this.items = hasNext ? rows.subList(0, limit) : rows;
+        this.limit = limit;
+        this.lastId = items.isEmpty() ? afterId : items.getLast().getId();
+
+        if (hasNext) {
+            this.nextCursor = new CommentCursor(lastId).encode();
+        }
+    }
+}
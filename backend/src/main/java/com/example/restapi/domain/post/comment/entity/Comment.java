@@ -4,9 +4,12 @@ import com.example.restapi.domain.member.member.entity.Member;
 import com.example.restapi.domain.post.post.entity.Post;
 import com.example.restapi.global.entity.BaseTime;
 import com.example.restapi.global.exception.ServiceException;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
+import jakarta.persistence.Index;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -14,6 +17,8 @@ import lombok.NoArgsConstructor;
 import lombok.experimental.SuperBuilder;
 
 @Entity
+// 글의 댓글을 id 순서로 이어 읽는 keyset 조회용
+@Table(indexes = @Index(name = "idx_comment_post_id_id", columnList = "post_id, id"))
 @AllArgsConstructor
 @NoArgsConstructor
 @Getter
@@ -23,6 +28,10 @@ public class Comment extends BaseTime {
     @ManyToOne(fetch = FetchType.LAZY)
     private Member author;
 
+    // 작성자 닉네임 스냅샷 (닉네임 변경 시 AuthorNameSyncService 가 갱신)
+    @Column(length = 100)
+    private String authorName;
+
     @ManyToOne(fetch = FetchType.LAZY)
     private Post post;
 
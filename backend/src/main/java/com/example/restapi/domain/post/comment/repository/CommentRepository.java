@@ -0,0 +1,70 @@
+package com.example.restapi.domain.post.comment.repository;
+
+import com.example.restapi.domain.post.comment.dto.CommentDto;
+import com.example.restapi.domain.post.comment.entity.Comment;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+public interface CommentRepository extends JpaRepository<Comment, Long> {
+
+    // 아래 두 조회는 (post_id, id) 인덱스를 따라 읽고, 엔티티 대신 DTO 로 바로 받는다.
+    @Query("""
+            select new com.example.restapi.domain.post.comment.dto.CommentDto(c.id, c.content, c.post.id, c.author.id, c.authorName, c.createdDate, c.modifiedDate)
+            from Comment c
+            where c.post.id = :postId and c.id > :afterId
+            order by c.id
+            """)
+    List<CommentDto> findDtosByPostId(long postId, long afterId, PageRequest pageRequest);
+
+    // 페이지 파라미터 없는 기존 전체 목록용. 목록을 만들지 않고 DB 커서로 흘려 읽는다.
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("""
+            select new com.example.restapi.domain.post.comment.dto.CommentDto(c.id, c.content, c.post.id, c.author.id, c.authorName, c.createdDate, c.modifiedDate)
+            from Comment c
+            where c.post.id = :postId
+            order by c.id
+            """)
+    Stream<CommentDto> streamDtosByPostId(long postId);
+
+    // 단건은 (postId, id) 로 바로 찾는다. Post.comments 를 초기화하지 않는다.
+    @Query("""
+            select new com.example.restapi.domain.post.comment.dto.CommentDto(c.id, c.content, c.post.id, c.author.id, c.authorName, c.createdDate, c.modifiedDate)
+            from Comment c
+            where c.post.id = :postId and c.id = :id
+            """)
+    Optional<CommentDto> findDtoByPostIdAndId(long postId, long id);
+
+    @Query("select c from Comment c where c.post.id = :postId and c.id = :id")
+    Optional<Comment> findByPostIdAndId(long postId, long id);
+
+    @Modifying
+    @Query("delete from Comment c where c.post.id = :postId and c.id = :id")
+    int deleteByPostIdAndId(long postId, long id);
+
+    @Query("select c from Comment c where c.post.id in :postIds order by c.id")
+    List<Comment> findByPostIdIn(List<Long> postIds);
+
+    @Query("select c.id from Comment c where c.author.id = :authorId and c.id > :lastId order by c.id")
+    List<Long> findIdsByAuthorId(long authorId, long lastId, PageRequest pageRequest);
+
+    @Query("select c.id from Comment c where c.authorName is null and c.id > :lastId order by c.id")
+    List<Long> findIdsWithoutAuthorName(long lastId, PageRequest pageRequest);
+
+    // 비어 있는 행만 작성자의 현재 닉네임으로 채운다.
+    @Modifying
+    @Query("update Comment c set c.authorName = (select m.nickname from Member m where m.id = c.author.id) where c.id in :ids and c.authorName is null")
+    int fillAuthorName(List<Long> ids);
+
+    @Modifying
+    @Query("update Comment c set c.authorName = :authorName where c.id in :ids")
+    int updateAuthorName(List<Long> ids, String authorName);
+}
@@ -0,0 +1,131 @@
+package com.example.restapi.domain.post.comment.service;
+
+import com.example.restapi.domain.member.member.entity.Member;
+import com.example.restapi.domain.post.comment.dto.CommentCursor;
+import com.example.restapi.domain.post.comment.dto.CommentDto;
+import com.example.restapi.domain.post.comment.dto.CommentPageDto;
+import com.example.restapi.domain.post.comment.entity.Comment;
+import com.example.restapi.domain.post.comment.repository.CommentRepository;
+import com.example.restapi.domain.post.post.entity.Post;
+import com.example.restapi.domain.post.post.service.PostService;
+import com.example.restapi.global.exception.ServiceException;
+import com.example.restapi.standard.util.Utils;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+@Service
+@RequiredArgsConstructor
+public class CommentService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final CommentRepository commentRepository;
+    private final PostService postService;
+    private final ObjectMapper objectMapper;
+
+    // 댓글 목록의 ETag. 댓글을 읽지 않고 글의 댓글 버전(PK 조회 한 번)으로 만든다.
+    public String getListEtag(long postId) {
+        long commentVersion = postService.getCommentVersion(postId).orElseThrow(
+                () -> new ServiceException("404-1", "존재하지 않는 게시글입니다.")
+        );
+
+        return Utils.Etag.of(postId, commentVersion);
+    }
+
+    // 글의 댓글 전체를 JSON 배열로 쓴다. 목록을 만들지 않고 DB 커서에서 읽는 대로 내보낸다.
+    // 글이 있는지는 getListEtag 에서 이미 확인한다.
+    @Transactional(readOnly = true)
+    public void writeItems(long postId, OutputStream out) throws IOException {
+        try (Stream<CommentDto> items = commentRepository.streamDtosByPostId(postId);
+             JsonGenerator generator = objectMapper.createGenerator(out)) {
+            generator.writeStartArray();
+
+            Iterator<CommentDto> iterator = items.iterator();
+
+            while (iterator.hasNext()) {
+                generator.writeObject(iterator.next());
+            }
+
+            generator.writeEndArray();
+        }
+    }
+
+    public CommentPageDto getItemsByCursor(long postId, CommentCursor cursor, int pageSize) {
+        return getItemsAfter(postId, cursor.id(), pageSize);
+    }
+
+    // sinceId 보다 나중에 달린 댓글 (새 댓글 확인용)
+    public CommentPageDto getItemsSince(long postId, long sinceId, int pageSize) {
+        return getItemsAfter(postId, Math.max(sinceId, 0), pageSize);
+    }
+
+    private CommentPageDto getItemsAfter(long postId, long afterId, int pageSize) {
+        int size = Math.clamp(pageSize, 1, MAX_PAGE_SIZE);
+
+        // 다음 페이지 존재 여부를 알기 위해 한 건 더 조회
+        List<CommentDto> rows = commentRepository.findDtosByPostId(postId, afterId, PageRequest.of(0, size + 1));
+
+        // 빈 페이지일 때만 글이 있는지 확인한다.
+        if (rows.isEmpty()) {
+            checkPostExists(postId);
+        }
+
+        return new CommentPageDto(rows, size, afterId);
+    }
+
+    public CommentDto getItemDto(long postId, long id) {
+        return commentRepository.findDtoByPostIdAndId(postId, id).orElseThrow(
+                () -> notFound(postId)
+        );
+    }
+
+    // 수정, 삭제 권한 확인용. 작성자는 지연 로딩 그대로 두고 id 만 비교한다.
+    public Comment getItem(long postId, long id) {
+        return commentRepository.findByPostIdAndId(postId, id).orElseThrow(
+                () -> notFound(postId)
+        );
+    }
+
+    public Comment write(Post post, Member author, String content) {
+        Comment comment = post.addComment(author, content);
+        postService.increaseCommentVersion(post.getId());
+
+        return comment;
+    }
+
+    public void modify(Comment comment, String content) {
+        comment.modify(content);
+        postService.increaseCommentVersion(comment.getPost().getId());
+    }
+
+    // 글의 댓글 컬렉션을 거치지 않고 (postId, id) 로 바로 지운다.
+    public void delete(Comment comment) {
+        commentRepository.deleteByPostIdAndId(comment.getPost().getId(), comment.getId());
+        postService.increaseCommentVersion(comment.getPost().getId());
+    }
+
+    // 찾지 못했을 때만 글이 있는지 확인해서 404-1(글 없음)과 404-2(댓글 없음)를 구분한다.
+    private ServiceException notFound(long postId) {
+        if (!postService.exists(postId)) {
+            return new ServiceException("404-1", "존재하지 않는 게시글입니다.");
+        }
+
+        return new ServiceException("404-2", "존재하지 않는 댓글입니다.");
+    }
+
+    private void checkPostExists(long postId) {
+        if (!postService.exists(postId)) {
+            throw new ServiceException("404-1", "존재하지 않는 게시글입니다.");
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.restapi.domain.post.post.controller;
+
+import com.example.restapi.domain.post.post.dto.PostImportResult;
+import com.example.restapi.domain.post.post.service.PostExportService;
+import com.example.restapi.domain.post.post.service.PostImportService;
+import com.example.restapi.global.dto.RsData;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+@Tag(name = "ApiV1AdmPostController", description = "관리자용 글 API")
+@SecurityRequirement(name = "bearerAuth")
+@RestController
+@RequestMapping("/api/v1/adm/posts")
+@RequiredArgsConstructor
+public class ApiV1AdmPostController {
+
+    private final PostExportService postExportService;
+    private final PostImportService postImportService;
+
+    @Operation(
+            summary = "글 내보내기",
+            description = "글과 댓글을 id 순서로 한 줄에 하나씩(NDJSON) 내보냄. afterId 를 주면 그 이후부터 이어받기"
+    )
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public StreamingResponseBody export(@RequestParam(defaultValue = "0") long afterId) {
+        return out -> postExportService.export(afterId, out);
+    }
+
+    @Operation(
+            summary = "글 일괄 가져오기",
+            description = "글 JSON 배열(댓글 포함 가능)을 batchSize 건씩 나눠 저장. 잘못된 항목은 건너뛰고 failures 로 알려줌"
+    )
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public RsData<PostImportResult> importPosts(InputStream body, @RequestParam(required = false) Integer batchSize) throws IOException {
+        PostImportResult result = postImportService.importPosts(body, batchSize);
+
+        return new RsData<>(
+                "200-1",
+                "%d건 중 %d건의 글을 가져왔습니다.".formatted(result.getTotalItems(), result.getImportedItems()),
+                result
+        );
+    }
+}
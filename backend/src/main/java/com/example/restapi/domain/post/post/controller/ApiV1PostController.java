@@ -2,14 +2,22 @@ package com.example.restapi.domain.post.post.controller;
 
 import com.example.restapi.domain.member.member.entity.Member;
 import com.example.restapi.domain.member.member.service.MemberService;
+import com.example.restapi.domain.post.post.dto.CursorPageDto;
 import com.example.restapi.domain.post.post.dto.PageDto;
+import com.example.restapi.domain.post.post.dto.PostCursor;
 import com.example.restapi.domain.post.post.dto.PostDto;
+import com.example.restapi.domain.post.post.dto.PostStatistics;
+import com.example.restapi.domain.post.post.dto.PostVersion;
 import com.example.restapi.domain.post.post.dto.PostWithContentDto;
 import com.example.restapi.domain.post.post.entity.Post;
+import com.example.restapi.domain.post.post.service.PostListCache;
 import com.example.restapi.domain.post.post.service.PostService;
+import com.example.restapi.domain.post.post.service.PostStatisticsService;
 import com.example.restapi.global.Rq;
 import com.example.restapi.global.dto.RsData;
 import com.example.restapi.global.exception.ServiceException;
+import com.example.restapi.global.security.CurrentActor;
+import com.example.restapi.standard.util.Utils;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -18,6 +26,7 @@ import jakarta.validation.constraints.NotBlank;
 import lombok.RequiredArgsConstructor;
 import org.hibernate.validator.constraints.Length;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.lang.NonNull;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -36,6 +45,8 @@ import java.util.List;
 public class ApiV1PostController {
 
     private final PostService postService;
+    private final PostListCache postListCache;
+    private final PostStatisticsService postStatisticsService;
     private final MemberService memberService;
     private final Rq rq;
 
@@ -44,18 +55,47 @@ public class ApiV1PostController {
             description = "페이징 처리와 검색 가능"
     )
     @GetMapping()
-    @Transactional(readOnly = true)
     public RsData<PageDto> getItems(
             @RequestParam(defaultValue = "1") int page,
             @RequestParam(defaultValue = "3") int pageSize,
             @RequestParam(defaultValue = "TITLE") SearchKeywordType keywordType,
             @RequestParam(defaultValue = "") String keyword) {
-        Page<Post> postPage = postService.getListedItems(page, pageSize, keywordType, keyword);
+        // 캐시에 있으면 트랜잭션을 열지 않는다.
+        PostListCache.Key key = new PostListCache.Key(page, pageSize, keywordType, keyword);
+        PageDto pageDto = postListCache.get(
+                key,
+                () -> new PageDto(postService.getListedItems(page, pageSize, keywordType, key.keyword()))
+        );
+
+        if (rq.checkNotModified(getEtag(pageDto), false)) {
+            return null;
+        }
 
         return new RsData<>(
                 "200-1",
                 "글 목록 조회가 완료되었습니다.",
-                new PageDto(postPage)
+                pageDto
+        );
+    }
+
+    @Operation(
+            summary = "글 목록 조회 (커서)",
+            description = "cursor 파라미터가 있으면 커서 기반 페이징. 첫 페이지는 빈 값, 이후에는 응답의 nextCursor/prevCursor 사용"
+    )
+    @GetMapping(params = "cursor")
+    @Transactional(readOnly = true)
+    public RsData<CursorPageDto> getItemsByCursor(
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "3") int pageSize,
+            @RequestParam(defaultValue = "TITLE") SearchKeywordType keywordType,
+            @RequestParam(defaultValue = "") String keyword) {
+        PostCursor postCursor = PostCursor.decode(cursor);
+        Slice<PostDto> postSlice = postService.getListedItemsByCursor(postCursor, pageSize, keywordType, keyword);
+
+        return new RsData<>(
+                "200-1",
+                "글 목록 조회가 완료되었습니다.",
+                new CursorPageDto(postSlice, postCursor)
         );
     }
 
@@ -69,17 +109,43 @@ public class ApiV1PostController {
             @RequestParam(defaultValue = "1") int page,
             @RequestParam(defaultValue = "3") int pageSize,
             @RequestParam(defaultValue = "title") SearchKeywordType keywordType,
-            @RequestParam(defaultValue = "") String keyword) {
-        Member actor = rq.getCurrentActor();
-        Page<Post> postPage = postService.getMyItems(actor, page, pageSize, keywordType, keyword);
+            @RequestParam(defaultValue = "") String keyword,
+            @CurrentActor Member actor) {
+        Page<PostDto> postPage = postService.getMyItems(actor, page, pageSize, keywordType, keyword);
+        PageDto pageDto = new PageDto(postPage);
+
+        if (rq.checkNotModified(getEtag(pageDto), true)) {
+            return null;
+        }
 
         return new RsData<>(
                 "200-1",
                 "내 글 목록 조회가 완료되었습니다.",
-                new PageDto(postPage)
+                pageDto
         );
     }
 
+    @Operation(
+            summary = "내 글 목록 조회 (커서)",
+            description = "cursor 파라미터가 있으면 커서 기반 페이징. 첫 페이지는 빈 값, 이후에는 응답의 nextCursor/prevCursor 사용"
+    )
+    @GetMapping(value = "/mine", params = "cursor")
+    @Transactional(readOnly = true)
+    public RsData<CursorPageDto> getMyItemsByCursor(
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "3") int pageSize,
+            @RequestParam(defaultValue = "TITLE") SearchKeywordType keywordType,
+            @RequestParam(defaultValue = "") String keyword,
+            @CurrentActor Member actor) {
+        PostCursor postCursor = PostCursor.decode(cursor);
+        Slice<PostDto> postSlice = postService.getMyItemsByCursor(actor, postCursor, pageSize, keywordType, keyword);
+
+        return new RsData<>(
+                "200-1",
+                "내 글 목록 조회가 완료되었습니다.",
+                new CursorPageDto(postSlice, postCursor)
+        );
+    }
 
     @Operation(
             summary = "글 단건 조회",
@@ -87,17 +153,25 @@ public class ApiV1PostController {
     )
     @GetMapping("{id}")
     @Transactional(readOnly = true)
-    public RsData<PostWithContentDto> getItem(@PathVariable long id) {
-        Post post = postService.getItem(id).orElseThrow(
+    public RsData<PostWithContentDto> getItem(@PathVariable long id, @CurrentActor Member actor) {
+        // 본문을 읽기 전에 버전 정보만으로 권한 확인과 ETag 비교를 한다.
+        PostVersion version = postService.getItemVersion(id).orElseThrow(
                 () -> new ServiceException("404-1", "존재하지 않는 글입니다.")
         );
-        if (!post.isPublished()) {
-            Member actor = rq.getCurrentActor();
-            post.canAccess(actor);
+        version.canAccess(actor);
+
+        boolean canActorHandle = version.getHandleAuthority(actor);
+
+        if (rq.checkNotModified(version.etag(canActorHandle), true)) {
+            return null;
         }
 
+        Post post = postService.getItem(id).orElseThrow(
+                () -> new ServiceException("404-1", "존재하지 않는 글입니다.")
+        );
+
         PostWithContentDto postWithContentDto = new PostWithContentDto(post);
-        postWithContentDto.setCanActorHandle(post.getHandleAuthority(rq.getCurrentActor()));
+        postWithContentDto.setCanActorHandle(canActorHandle);
 
         return new RsData<>(
                 "200-1",
@@ -117,8 +191,7 @@ public class ApiV1PostController {
             description = "로그인 한 사용자만 글 작성 가능"
     )
     @PostMapping()
-    public RsData<PostWithContentDto> write(@RequestBody @Valid writeReqBody reqBody) {
-        Member actor = rq.getCurrentActor();
+    public RsData<PostWithContentDto> write(@RequestBody @Valid writeReqBody reqBody, @CurrentActor Member actor) {
         Member realActor = rq.getRealActor(actor);
 
         Post post = postService.write(realActor, reqBody.title(), reqBody.content(), reqBody.published(), reqBody.listed());
@@ -138,8 +211,7 @@ public class ApiV1PostController {
     )
     @PutMapping("/{id}")
     @Transactional
-    public RsData<PostWithContentDto> modify(@PathVariable long id, @RequestBody @Valid PostModifyReqBody reqBody) {
-        Member actor = rq.getCurrentActor();
+    public RsData<PostWithContentDto> modify(@PathVariable long id, @RequestBody @Valid PostModifyReqBody reqBody, @CurrentActor Member actor) {
         Post post = postService.getItem(id).orElseThrow(
                 () -> new ServiceException("404-1", "존재하지 않는 글입니다.")
         );
@@ -160,8 +232,7 @@ public class ApiV1PostController {
             description = "작성자와 관리자만 글 삭제 가능"
     )
     @DeleteMapping("{id}")
-    public RsData<PostWithContentDto> delete(@PathVariable long id) {
-        Member actor = rq.getCurrentActor();
+    public RsData<PostWithContentDto> delete(@PathVariable long id, @CurrentActor Member actor) {
         Post post = postService.getItem(id).orElseThrow(
                 () -> new ServiceException("404-1", "존재하지 않는 글입니다.")
         );
@@ -183,14 +254,29 @@ public class ApiV1PostController {
     )
     @GetMapping("/statistics")
     public RsData<StatisticsResBody> getStatistics() {
+        PostStatistics statistics = postStatisticsService.getStatistics();
+
         return new RsData<>(
                 "200-1",
                 "통계 조회가 완료되었습니다.",
                 new StatisticsResBody(
-                        10,
-                        10,
-                        10
+                        statistics.postCount(),
+                        statistics.postPublishedCount(),
+                        statistics.postListedCount()
                 )
         );
     }
+
+    private String getEtag(PageDto pageDto) {
+        return Utils.Etag.of(
+                pageDto.getCurrentPageNo(),
+                pageDto.getTotalPages(),
+                pageDto.getTotalItems(),
+                pageDto.getPageSize(),
+                pageDto.getItems()
+                        .stream()
+                        .map(postDto -> postDto.getId() + ":" + postDto.getModifiedDate() + ":" + postDto.getAuthorName())
+                        .toList()
+        );
+    }
 }
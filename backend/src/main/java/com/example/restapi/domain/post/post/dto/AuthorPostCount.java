@@ -0,0 +1,4 @@
+package com.example.restapi.domain.post.post.dto;
+
+public record AuthorPostCount(long authorId, long count) {
+}
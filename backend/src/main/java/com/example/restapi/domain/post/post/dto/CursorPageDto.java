@@ -0,0 +1,40 @@
+package com.example.restapi.domain.post.post.dto;
+
+import lombok.Getter;
+import org.springframework.data.domain.Slice;
+import org.springframework.lang.NonNull;
+
+import java.util.List;
+
+@Getter
+public class CursorPageDto {
+    @NonNull
+    private List<PostDto> items;
+    @NonNull
+    private int pageSize;
+    // 더 오래된 글 방향 커서, 없으면 null
+    private String nextCursor;
+    // 더 최근 글 방향 커서, 없으면 null
+    private String prevCursor;
+
+    public CursorPageDto(Slice<PostDto> postSlice, PostCursor cursor) {
+        this.items = postSlice.getContent();
+        this.pageSize = postSlice.getSize();
+
+        if (items.isEmpty()) {
+            return;
+        }
+
+        boolean backward = cursor != null && cursor.isBackward();
+        long firstId = items.getFirst().getId();
+        long lastId = items.getLast().getId();
+
+        if (backward || postSlice.hasNext()) {
+            this.nextCursor = PostCursor.after(lastId).encode();
+        }
+
+        if (cursor != null && (!backward || postSlice.hasNext())) {
+            this.prevCursor = PostCursor.before(firstId).encode();
+        }
+    }
+}
@@ -1,6 +1,5 @@
 package com.example.restapi.domain.post.post.dto;
 
-import com.example.restapi.domain.post.post.entity.Post;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import org.springframework.data.domain.Page;
@@ -22,10 +21,8 @@ public class PageDto {
     @NonNull
     private int pageSize;
 
-    public PageDto(Page<Post> postPage) {
-        this.items = postPage.getContent().stream()
-                .map(PostDto::new)
-                .toList();
+    public PageDto(Page<PostDto> postPage) {
+        this.items = postPage.getContent();
         this.currentPageNo = postPage.getNumber() + 1;
         this.totalPages = postPage.getTotalPages();
         this.totalItems = (int) postPage.getTotalElements();
@@ -0,0 +1,52 @@
+package com.example.restapi.domain.post.post.dto;
+
+import com.example.restapi.global.exception.ServiceException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+// 클라이언트에게는 불투명한 토큰으로 전달되는 keyset 커서
+// AFTER : id 보다 오래된(작은) 글, BEFORE : id 보다 최근(큰) 글
+public record PostCursor(Direction direction, long id) {
+
+    public enum Direction {
+        AFTER,
+        BEFORE
+    }
+
+    public static PostCursor after(long id) {
+        return new PostCursor(Direction.AFTER, id);
+    }
+
+    public static PostCursor before(long id) {
+        return new PostCursor(Direction.BEFORE, id);
+    }
+
+    public boolean isBackward() {
+        return direction == Direction.BEFORE;
+    }
+
+    public String encode() {
+        String raw = direction.name() + ":" + id;
+
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 빈 토큰은 첫 페이지를 의미한다.
+    public static PostCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] bits = raw.split(":", 2);
+
+            return new PostCursor(Direction.valueOf(bits[0]), Long.parseLong(bits[1]));
+        } catch (RuntimeException e) {
+            throw new ServiceException("400-2", "잘못된 커서입니다.");
+        }
+    }
+}
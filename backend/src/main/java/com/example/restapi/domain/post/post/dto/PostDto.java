@@ -27,13 +27,25 @@ public class PostDto {
     @NonNull
     private boolean listed;
 
+    // 목록 조회용 JPQL 생성자 표현식(select new ...)에서 사용. content 를 읽지 않는다.
+    public PostDto(Long id, LocalDateTime createdDate, LocalDateTime modifiedDate, String title, Long authorId, String authorName, Boolean published, Boolean listed) {
+        this.id = id;
+        this.createdDate = createdDate;
+        this.modifiedDate = modifiedDate;
+        this.title = title;
+        this.authorId = authorId;
+        this.authorName = authorName;
+        this.published = published;
+        this.listed = listed;
+    }
+
     public PostDto(Post post) {
         this.id = post.getId();
         this.createdDate = post.getCreatedDate();
         this.modifiedDate = post.getModifiedDate();
         this.title = post.getTitle();
         this.authorId = post.getAuthor().getId();
-        this.authorName = post.getAuthor().getNickname();
+        this.authorName = post.getAuthorName();
         this.published = post.isPublished();
         this.listed = post.isListed();
     }
@@ -0,0 +1,51 @@
+package com.example.restapi.domain.post.post.dto;
+
+import com.example.restapi.domain.post.comment.dto.CommentDto;
+import com.example.restapi.domain.post.comment.entity.Comment;
+import com.example.restapi.domain.post.post.entity.Post;
+import lombok.Getter;
+import org.springframework.lang.NonNull;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+public class PostExportDto {
+
+    @NonNull
+    private long id;
+    @NonNull
+    private LocalDateTime createdDate;
+    @NonNull
+    private LocalDateTime modifiedDate;
+    @NonNull
+    private String title;
+    @NonNull
+    private String content;
+    @NonNull
+    private long authorId;
+    @NonNull
+    private String authorName;
+    @NonNull
+    private boolean published;
+    @NonNull
+    private boolean listed;
+    @NonNull
+    private List<CommentDto> comments;
+
+    public PostExportDto(Post post, List<Comment> comments) {
+        this.id = post.getId();
+        this.createdDate = post.getCreatedDate();
+        this.modifiedDate = post.getModifiedDate();
+        this.title = post.getTitle();
+        this.content = post.getContent();
+        this.authorId = post.getAuthor().getId();
+        this.authorName = post.getAuthorName();
+        this.published = post.isPublished();
+        this.listed = post.isListed();
+        this.comments = comments
+                .stream()
+                .map(CommentDto::new)
+                .toList();
+    }
+}
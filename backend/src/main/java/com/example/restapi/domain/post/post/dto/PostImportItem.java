@@ -0,0 +1,18 @@
+package com.example.restapi.domain.post.post.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+
+import java.util.List;
+
+// 일괄 가져오기 요청의 글 한 건. 작성자는 username 으로 지정한다.
+public record PostImportItem(
+        @NotBlank String authorUsername,
+        @NotBlank String title,
+        @NotBlank String content,
+        boolean published,
+        boolean listed,
+        List<@Valid CommentItem> comments
+) {
+    public record CommentItem(@NotBlank String authorUsername, @NotBlank String content) {}
+}
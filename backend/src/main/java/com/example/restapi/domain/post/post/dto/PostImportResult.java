@@ -0,0 +1,36 @@
+package com.example.restapi.domain.post.post.dto;
+
+import lombok.Getter;
+import org.springframework.lang.NonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+public class PostImportResult {
+
+    // index 는 요청 배열에서의 위치 (0부터)
+    public record Failure(int index, String reason) {}
+
+    @NonNull
+    private int totalItems;
+    @NonNull
+    private int importedItems;
+    @NonNull
+    private int importedComments;
+    @NonNull
+    private List<Failure> failures = new ArrayList<>();
+
+    public void addTotal(int count) {
+        totalItems += count;
+    }
+
+    public void addImported(int posts, int comments) {
+        importedItems += posts;
+        importedComments += comments;
+    }
+
+    public void addFailure(int index, String reason) {
+        failures.add(new Failure(index, reason));
+    }
+}
@@ -0,0 +1,5 @@
+package com.example.restapi.domain.post.post.dto;
+
+// 검색 색인을 만들 때 읽는 값 (작성자 등 연관 엔티티를 읽지 않는다.)
+public record PostSearchText(long id, String title, String content) {
+}
@@ -0,0 +1,14 @@
+package com.example.restapi.domain.post.post.dto;
+
+public record PostStatistics(long postCount, long postPublishedCount, long postListedCount) {
+
+    public static final PostStatistics ZERO = new PostStatistics(0, 0, 0);
+
+    public PostStatistics plus(PostStatistics other) {
+        return new PostStatistics(
+                postCount + other.postCount,
+                postPublishedCount + other.postPublishedCount,
+                postListedCount + other.postListedCount
+        );
+    }
+}
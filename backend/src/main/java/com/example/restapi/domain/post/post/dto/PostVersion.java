@@ -0,0 +1,31 @@
+package com.example.restapi.domain.post.post.dto;
+
+import com.example.restapi.domain.member.member.entity.Member;
+import com.example.restapi.global.exception.ServiceException;
+import com.example.restapi.standard.util.Utils;
+
+import java.time.LocalDateTime;
+
+// 글 단건 응답의 ETag 계산과 접근 확인에 필요한 값만 담은 조회 결과 (content 를 읽지 않는다.)
+// 접근 규칙은 Post.canAccess / Post.getHandleAuthority 와 같다.
+public record PostVersion(long id, LocalDateTime modifiedDate, String authorName, long authorId, boolean published) {
+
+    public void canAccess(Member actor) {
+        if (published) return;
+        if (actor.isAdmin()) return;
+        if (actor.getId() == authorId) return;
+        throw new ServiceException("403-1", "비공개 설정된 글입니다.");
+    }
+
+    public boolean getHandleAuthority(Member actor) {
+        if (actor == null) return false;
+        if (actor.isAdmin()) return true;
+
+        return actor.getId() == authorId;
+    }
+
+    // 작성자 이름 동기화는 modifiedDate 를 바꾸지 않으므로 authorName 도 포함한다.
+    public String etag(boolean canActorHandle) {
+        return Utils.Etag.of(id, modifiedDate, authorName, canActorHandle);
+    }
+}
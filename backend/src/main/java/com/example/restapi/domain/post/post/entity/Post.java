@@ -7,6 +7,7 @@ import com.example.restapi.global.exception.ServiceException;
 import jakarta.persistence.*;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.util.ArrayList;
 import java.util.Comparator;
@@ -22,10 +23,18 @@ public class Post extends BaseTime {
 
     @ManyToOne(fetch = FetchType.LAZY)
     private Member author;
+    // 목록 조회 시 회원 조인 없이 쓰기 위한 작성자 닉네임 스냅샷 (닉네임 변경 시 AuthorNameSyncService 가 갱신)
+    @Column(length = 100)
+    private String authorName;
     private String title;
     private String content;
     private boolean published;
     private boolean listed;
+    // 댓글 목록이 바뀔 때마다 1씩 올린다. 댓글 목록 ETag 를 댓글을 읽지 않고 만들기 위한 값
+    // 엔티티로는 쓰지 않고 PostRepository.increaseCommentVersion 으로만 바꾼다. (글 수정이 오래된 값으로 덮어쓰지 않도록)
+    @ColumnDefault("0")
+    @Column(insertable = false, updatable = false)
+    private long commentVersion;
 
     @OneToMany(mappedBy = "post", cascade = {CascadeType.PERSIST, CascadeType.REMOVE}, orphanRemoval = true)
     @Builder.Default
@@ -37,6 +46,7 @@ public class Post extends BaseTime {
                 .builder()
                 .post(this)
                 .author(author)
+                .authorName(author.getNickname())
                 .content(content)
                 .build();
 
@@ -92,8 +102,7 @@ public class Post extends BaseTime {
     public Comment getLatestComment() {
         return comments
                 .stream()
-                .sorted(Comparator.comparing(Comment::getId).reversed())
-                .findFirst()
+                .max(Comparator.comparing(Comment::getId))
                 .orElseThrow(
                         () -> new ServiceException("404-2", "존재하지 않는 댓글입니다.")
                 );
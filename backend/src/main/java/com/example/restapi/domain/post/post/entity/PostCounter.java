@@ -0,0 +1,26 @@
+package com.example.restapi.domain.post.post.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 목록 전체 개수를 COUNT(*) 없이 조회하기 위해 유지하는 카운터
+// name : listed (공개 글 목록), author:{회원 id} (내 글 목록)
+@Entity
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class PostCounter {
+
+    @Id
+    @Column(length = 100)
+    private String name;
+
+    // 재집계(PostCounterService.reconcile) 때만 직접 고친다. 평소에는 increase 로 더한다.
+    @Setter
+    private long amount;
+}
@@ -0,0 +1,28 @@
+package com.example.restapi.domain.post.post.repository;
+
+import com.example.restapi.domain.post.post.entity.PostCounter;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface PostCounterRepository extends JpaRepository<PostCounter, String> {
+
+    // 엔티티로 읽으면 영속성 컨텍스트에 남은 값이 increase 이후에도 재사용되므로 값만 조회한다.
+    @Query("select c.amount from PostCounter c where c.name = :name")
+    Optional<Long> findAmountByName(String name);
+
+    @Modifying
+    @Query("update PostCounter c set c.amount = c.amount + :delta where c.name = :name")
+    int increase(String name, long delta);
+
+    // 재집계용. 잠근 동안 같은 카운터를 increase 하려는 쓰기 트랜잭션은 기다린다.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select c from PostCounter c where c.name in :names")
+    List<PostCounter> findAllForUpdateByNameIn(Collection<String> names);
+}
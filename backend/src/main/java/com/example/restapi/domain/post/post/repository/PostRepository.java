@@ -1,19 +1,78 @@
 package com.example.restapi.domain.post.post.repository;
 
-import com.example.restapi.domain.member.member.entity.Member;
+import com.example.restapi.domain.post.post.dto.AuthorPostCount;
+import com.example.restapi.domain.post.post.dto.PostSearchText;
+import com.example.restapi.domain.post.post.dto.PostStatistics;
+import com.example.restapi.domain.post.post.dto.PostVersion;
 import com.example.restapi.domain.post.post.entity.Post;
-import org.springframework.data.domain.Page;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
-public interface PostRepository extends JpaRepository<Post, Long> {
+public interface PostRepository extends JpaRepository<Post, Long>, PostRepositoryCustom {
     Optional<Post> findTopByOrderByIdDesc();
-    Page<Post> findByListed(boolean listed, PageRequest pageRequest);
-    Page<Post> findByListedAndTitleLike(boolean listed, String likeKeyword, PageRequest pageRequest);
-    Page<Post> findByListedAndContentLike(boolean listed, String likeKeyword, PageRequest pageRequest);
-    Page<Post> findByAuthor(Member author, PageRequest pageRequest);
-    Page<Post> findByAuthorAndContentLike(Member author, String likeKeyword, PageRequest pageRequest);
-    Page<Post> findByAuthorAndTitleLike(Member author, String likeKeyword, PageRequest pageRequest);
+    long countByListed(boolean listed);
+    long countByAuthorId(long authorId);
+
+    @Query("select new com.example.restapi.domain.post.post.dto.AuthorPostCount(p.author.id, count(p)) from Post p where p.author.id in :authorIds group by p.author.id")
+    List<AuthorPostCount> countByAuthorIdIn(Collection<Long> authorIds);
+
+    // 검색 색인용. 엔티티가 아니라 영속성 컨텍스트에 쌓이지 않는다.
+    @Query("select new com.example.restapi.domain.post.post.dto.PostSearchText(p.id, p.title, p.content) from Post p where p.id > :afterId order by p.id")
+    List<PostSearchText> findSearchTextsByIdGreaterThan(long afterId, PageRequest pageRequest);
+
+    // 내보내기용. MySQL 에서는 useCursorFetch=true 와 함께 써야 서버 커서로 나눠 읽는다.
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("select p from Post p where p.id > :afterId order by p.id")
+    Stream<Post> streamByIdGreaterThan(long afterId);
+
+    // 전체/공개/목록 노출 수를 한 번의 스캔으로
+    @Query("""
+            select new com.example.restapi.domain.post.post.dto.PostStatistics(
+                count(p),
+                coalesce(sum(case when p.published = true then 1 else 0 end), 0),
+                coalesce(sum(case when p.listed = true then 1 else 0 end), 0)
+            )
+            from Post p
+            """)
+    PostStatistics countStatistics();
+
+    @Query("select new com.example.restapi.domain.post.post.dto.PostVersion(p.id, p.modifiedDate, p.authorName, p.author.id, p.published) from Post p where p.id = :id")
+    Optional<PostVersion> findVersionById(long id);
+
+    @Query("select p.commentVersion from Post p where p.id = :id")
+    Optional<Long> findCommentVersionById(long id);
+
+    // 댓글 작성/수정/삭제, 작성자 이름 동기화 때 올린다.
+    @Modifying
+    @Query("update Post p set p.commentVersion = p.commentVersion + 1 where p.id = :id")
+    int increaseCommentVersion(long id);
+
+    @Modifying
+    @Query("update Post p set p.commentVersion = p.commentVersion + 1 where p.id in (select c.post.id from Comment c where c.id in :commentIds)")
+    int increaseCommentVersionByCommentIds(List<Long> commentIds);
+
+    @Query("select p.id from Post p where p.author.id = :authorId and p.id > :lastId order by p.id")
+    List<Long> findIdsByAuthorId(long authorId, long lastId, PageRequest pageRequest);
+
+    @Query("select p.id from Post p where p.authorName is null and p.id > :lastId order by p.id")
+    List<Long> findIdsWithoutAuthorName(long lastId, PageRequest pageRequest);
+
+    // 비어 있는 행만 작성자의 현재 닉네임으로 채운다.
+    @Modifying
+    @Query("update Post p set p.authorName = (select m.nickname from Member m where m.id = p.author.id) where p.id in :ids and p.authorName is null")
+    int fillAuthorName(List<Long> ids);
+
+    @Modifying
+    @Query("update Post p set p.authorName = :authorName where p.id in :ids")
+    int updateAuthorName(List<Long> ids, String authorName);
 }
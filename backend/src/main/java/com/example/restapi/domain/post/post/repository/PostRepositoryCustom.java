@@ -0,0 +1,12 @@
+package com.example.restapi.domain.post.post.repository;
+
+import com.example.restapi.domain.post.post.dto.PostCursor;
+import com.example.restapi.domain.post.post.dto.PostDto;
+
+import java.util.List;
+
+public interface PostRepositoryCustom {
+    List<PostDto> findByCondition(PostSearchCondition condition, long offset, int limit);
+    long countByCondition(PostSearchCondition condition, int cap);
+    List<PostDto> findByCursor(PostSearchCondition condition, PostCursor cursor, int limit);
+}
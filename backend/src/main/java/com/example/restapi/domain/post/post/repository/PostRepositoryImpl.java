@@ -0,0 +1,118 @@
+package com.example.restapi.domain.post.post.repository;
+
+import com.example.restapi.domain.post.post.dto.PostCursor;
+import com.example.restapi.domain.post.post.dto.PostDto;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class PostRepositoryImpl implements PostRepositoryCustom {
+
+    // 목록에는 content 가 필요 없으므로 엔티티 대신 PostDto 로 바로 조회한다.
+    // 영속성 컨텍스트에 올라가지 않아 dirty checking 스냅샷도 만들지 않는다.
+    private static final String SELECT_POST_DTO = """
+            select new com.example.restapi.domain.post.post.dto.PostDto(
+                p.id, p.createdDate, p.modifiedDate, p.title, p.author.id, p.authorName, p.published, p.listed
+            )
+            from Post p
+            where 1 = 1""";
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Override
+    public List<PostDto> findByCondition(PostSearchCondition condition, long offset, int limit) {
+        StringBuilder jpql = new StringBuilder(SELECT_POST_DTO);
+        Map<String, Object> params = new HashMap<>();
+
+        appendCondition(jpql, params, condition);
+        jpql.append(" order by p.id desc");
+
+        TypedQuery<PostDto> query = em.createQuery(jpql.toString(), PostDto.class);
+        params.forEach(query::setParameter);
+        query.setFirstResult((int) offset);
+        query.setMaxResults(limit);
+
+        return query.getResultList();
+    }
+
+    // 전체 개수 대신 최대 cap 건까지만 세어서 검색 결과가 많아도 비용이 일정하도록 한다.
+    @Override
+    public long countByCondition(PostSearchCondition condition, int cap) {
+        StringBuilder jpql = new StringBuilder("select p.id from Post p where 1 = 1");
+        Map<String, Object> params = new HashMap<>();
+
+        appendCondition(jpql, params, condition);
+
+        TypedQuery<Long> query = em.createQuery(jpql.toString(), Long.class);
+        params.forEach(query::setParameter);
+        query.setMaxResults(cap);
+
+        return query.getResultList().size();
+    }
+
+    // keyset 페이징 : OFFSET 없이 id 인덱스로 바로 찾아가므로 페이지 깊이와 무관하게 limit 건만 읽는다.
+    // 결과는 방향과 관계없이 항상 id 내림차순으로 반환한다.
+    @Override
+    public List<PostDto> findByCursor(PostSearchCondition condition, PostCursor cursor, int limit) {
+        StringBuilder jpql = new StringBuilder(SELECT_POST_DTO);
+        Map<String, Object> params = new HashMap<>();
+
+        appendCondition(jpql, params, condition);
+
+        boolean backward = cursor != null && cursor.isBackward();
+
+        if (cursor != null) {
+            jpql.append(backward ? " and p.id > :cursorId" : " and p.id < :cursorId");
+            params.put("cursorId", cursor.id());
+        }
+
+        jpql.append(backward ? " order by p.id asc" : " order by p.id desc");
+
+        TypedQuery<PostDto> query = em.createQuery(jpql.toString(), PostDto.class);
+        params.forEach(query::setParameter);
+        query.setMaxResults(limit);
+
+        List<PostDto> posts = query.getResultList();
+
+        if (!backward) {
+            return posts;
+        }
+
+        List<PostDto> reversed = new ArrayList<>(posts);
+        Collections.reverse(reversed);
+
+        return reversed;
+    }
+
+    private void appendCondition(StringBuilder jpql, Map<String, Object> params, PostSearchCondition condition) {
+        if (condition.author() == null) {
+            jpql.append(" and p.listed = true");
+        } else {
+            jpql.append(" and p.author = :author");
+            params.put("author", condition.author());
+        }
+
+        if (condition.candidateIds() != null) {
+            jpql.append(" and p.id in :candidateIds");
+            params.put("candidateIds", condition.candidateIds());
+        }
+
+        if (condition.keywordType() == null) {
+            return;
+        }
+
+        switch (condition.keywordType()) {
+            case TITLE -> jpql.append(" and p.title like :likeKeyword escape '\\'");
+            case CONTENT -> jpql.append(" and p.content like :likeKeyword escape '\\'");
+        }
+
+        params.put("likeKeyword", condition.likeKeyword());
+    }
+}
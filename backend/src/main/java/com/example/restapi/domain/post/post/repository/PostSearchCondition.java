@@ -0,0 +1,17 @@
+package com.example.restapi.domain.post.post.repository;
+
+import com.example.restapi.domain.member.member.entity.Member;
+import com.example.restapi.domain.post.post.controller.SearchKeywordType;
+
+import java.util.List;
+
+// author 가 null 이면 공개(listed) 글 목록, keywordType 이 null 이면 검색 없음,
+// candidateIds 가 있으면 검색 색인이 준 후보 묶음 안에서만 LIKE 로 확인한다.
+// likeKeyword 는 %, _, \ 를 \ 로 이스케이프한 패턴이다.
+public record PostSearchCondition(
+        Member author,
+        SearchKeywordType keywordType,
+        String likeKeyword,
+        List<Long> candidateIds
+) {
+}
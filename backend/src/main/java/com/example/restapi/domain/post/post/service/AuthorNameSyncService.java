@@ -0,0 +1,169 @@
+package com.example.restapi.domain.post.post.service;
+
+import com.example.restapi.domain.member.member.entity.Member;
+import com.example.restapi.domain.member.member.event.MemberNicknameChangedEvent;
+import com.example.restapi.domain.member.member.repository.MemberRepository;
+import com.example.restapi.domain.post.comment.repository.CommentRepository;
+import com.example.restapi.domain.post.post.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+// 글/댓글에 복사해 둔 작성자 이름(authorName)을 회원 닉네임과 맞춘다.
+// 작성자의 글/댓글 id 를 청크 단위로 읽고, 청크마다 짧은 트랜잭션에서 bulk UPDATE 한다.
+// 청크마다 회원의 현재 닉네임을 다시 읽으므로, 진행 중에 닉네임이 또 바뀌어도 마지막 값으로 수렴한다.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AuthorNameSyncService {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private final MemberRepository memberRepository;
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final PostListCache postListCache;
+    private final PlatformTransactionManager transactionManager;
+
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onNicknameChanged(MemberNicknameChangedEvent event) {
+        sync(event.memberId());
+    }
+
+    // 컬럼 추가 이전에 만들어진 글/댓글 채우기. 시작 스레드를 막지 않도록 비동기로 돌린다.
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        fillMissingAuthorNames();
+    }
+
+    // author_name 이 비어 있는 행만 id 순서로 청크마다 짧은 트랜잭션에서 채운다. (이미 채워진 행은 다시 쓰지 않는다.)
+    public void fillMissingAuthorNames() {
+        int posts = fillChunks(postRepository::findIdsWithoutAuthorName, postRepository::fillAuthorName);
+        int comments = fillChunks(commentRepository::findIdsWithoutAuthorName, this::fillCommentAuthorName);
+
+        if (posts > 0) {
+            postListCache.clear();
+        }
+
+        if (posts > 0 || comments > 0) {
+            log.info("비어 있던 작성자 이름을 채웠습니다. - 글 {}건, 댓글 {}건", posts, comments);
+        }
+    }
+
+    public void sync(long memberId) {
+        int posts = syncChunks(memberId, postRepository::findIdsByAuthorId, postRepository::updateAuthorName);
+        int comments = syncChunks(memberId, commentRepository::findIdsByAuthorId, this::updateCommentAuthorName);
+
+        postListCache.onAuthorNameChanged(memberId);
+
+        log.debug("작성자 이름 동기화 완료 - 회원 {}, 글 {}건, 댓글 {}건", memberId, posts, comments);
+    }
+
+    // 댓글 목록 ETag 가 바뀌도록 해당 글들의 댓글 버전도 함께 올린다.
+    private int updateCommentAuthorName(List<Long> ids, String authorName) {
+        int updated = commentRepository.updateAuthorName(ids, authorName);
+        postRepository.increaseCommentVersionByCommentIds(ids);
+
+        return updated;
+    }
+
+    private int fillCommentAuthorName(List<Long> ids) {
+        int updated = commentRepository.fillAuthorName(ids);
+        postRepository.increaseCommentVersionByCommentIds(ids);
+
+        return updated;
+    }
+
+    // 채우지 못한 행(작성자가 없는 경우)이 남아도 id 로 넘어가므로 같은 청크를 다시 읽지 않는다.
+    private int fillChunks(MissingIdChunkFinder finder, Function<List<Long>, Integer> filler) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        long lastId = 0;
+        int processed = 0;
+
+        while (true) {
+            long afterId = lastId;
+
+            List<Long> ids = transactionTemplate.execute(_ -> {
+                List<Long> chunk = finder.find(afterId, PageRequest.of(0, CHUNK_SIZE));
+
+                if (!chunk.isEmpty()) {
+                    filler.apply(chunk);
+                }
+
+                return chunk;
+            });
+
+            if (ids == null || ids.isEmpty()) {
+                break;
+            }
+
+            processed += ids.size();
+            lastId = ids.getLast();
+        }
+
+        return processed;
+    }
+
+    private int syncChunks(long memberId, IdChunkFinder finder, BiFunction<List<Long>, String, Integer> updater) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        long lastId = 0;
+        int updated = 0;
+
+        while (true) {
+            long afterId = lastId;
+
+            List<Long> ids = transactionTemplate.execute(_ -> {
+                List<Long> chunk = finder.find(memberId, afterId, PageRequest.of(0, CHUNK_SIZE));
+
+                if (chunk.isEmpty()) {
+                    return chunk;
+                }
+
+                String nickname = memberRepository.findById(memberId)
+                        .map(Member::getNickname)
+                        .orElse(null);
+
+                if (nickname != null) {
+                    updater.apply(chunk, nickname);
+                }
+
+                return chunk;
+            });
+
+            if (ids == null || ids.isEmpty()) {
+                break;
+            }
+
+            updated += ids.size();
+            lastId = ids.getLast();
+        }
+
+        return updated;
+    }
+
+    @FunctionalInterface
+    private interface IdChunkFinder {
+        List<Long> find(long authorId, long lastId, PageRequest pageRequest);
+    }
+
+    @FunctionalInterface
+    private interface MissingIdChunkFinder {
+        List<Long> find(long lastId, PageRequest pageRequest);
+    }
+}
@@ -0,0 +1,222 @@
+package com.example.restapi.domain.post.post.service;
+
+import com.example.restapi.domain.member.member.event.MemberJoinedEvent;
+import com.example.restapi.domain.member.member.repository.MemberRepository;
+import com.example.restapi.domain.post.post.dto.AuthorPostCount;
+import com.example.restapi.domain.post.post.entity.Post;
+import com.example.restapi.domain.post.post.entity.PostCounter;
+import com.example.restapi.domain.post.post.repository.PostCounterRepository;
+import com.example.restapi.domain.post.post.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+
+// 카운터 행은 미리 만들어 둔다. (listed 는 처음 조회하거나 첫 재집계 때, author:{id} 는 가입할 때)
+// 행이 없을 때 increase 는 0 건을 고치고 조용히 지나가므로, 어긋난 값은 주기적인 재집계(reconcile)로 바로잡는다.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostCounterService {
+
+    private static final String LISTED = "listed";
+    private static final int RECONCILE_CHUNK_SIZE = 500;
+
+    private final PostCounterRepository postCounterRepository;
+    private final PostRepository postRepository;
+    private final MemberRepository memberRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final AtomicBoolean reconciling = new AtomicBoolean(false);
+
+    public long getListedCount() {
+        return getCount(LISTED, () -> postRepository.countByListed(true));
+    }
+
+    public long getAuthorCount(long authorId) {
+        return getCount(authorKey(authorId), () -> postRepository.countByAuthorId(authorId));
+    }
+
+    // 새 회원의 글은 0 개이므로 세지 않고 만든다. 여기서 실패해도 재집계가 행을 만든다.
+    @EventListener
+    public void onMemberJoined(MemberJoinedEvent event) {
+        try {
+            postCounterRepository.save(new PostCounter(authorKey(event.memberId()), 0));
+        } catch (DataAccessException e) {
+            log.warn("글 카운터를 만들지 못했습니다. 다음 재집계에서 만듭니다. : {}", e.getMessage());
+        }
+    }
+
+    // 아래 메서드들은 글 작성/수정/삭제와 같은 트랜잭션 안에서 호출되어야 한다.
+    public void onWrite(Post post) {
+        if (post.isListed()) {
+            increase(LISTED, 1);
+        }
+
+        increase(authorKey(post.getAuthor().getId()), 1);
+    }
+
+    // 여러 글을 한 번에 저장할 때는 증가분을 모아서 카운터마다 한 번만 갱신한다.
+    public void onWriteAll(List<Post> posts) {
+        long listedCount = posts.stream()
+                .filter(Post::isListed)
+                .count();
+
+        if (listedCount > 0) {
+            increase(LISTED, listedCount);
+        }
+
+        posts.stream()
+                .collect(Collectors.groupingBy(post -> post.getAuthor().getId(), Collectors.counting()))
+                .forEach((authorId, count) -> increase(authorKey(authorId), count));
+    }
+
+    public void onModify(Post post, boolean wasListed) {
+        if (wasListed == post.isListed()) {
+            return;
+        }
+
+        increase(LISTED, post.isListed() ? 1 : -1);
+    }
+
+    public void onDelete(Post post) {
+        if (post.isListed()) {
+            increase(LISTED, -1);
+        }
+
+        increase(authorKey(post.getAuthor().getId()), -1);
+    }
+
+    private void increase(String name, long delta) {
+        if (postCounterRepository.increase(name, delta) == 0) {
+            log.debug("카운터 {} 가 아직 없어 증감을 건너뜁니다. 다음 재집계에서 맞춰집니다.", name);
+        }
+    }
+
+    private long getCount(String name, LongSupplier initialCount) {
+        return postCounterRepository.findAmountByName(name)
+                .orElseGet(() -> initCounter(name, initialCount));
+    }
+
+    // 카운터가 아직 없으면 한 번만 COUNT 해서 만든다. 조회 트랜잭션은 readOnly 이므로 별도 트랜잭션에서 저장한다.
+    private long initCounter(String name, LongSupplier initialCount) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        try {
+            return transactionTemplate.execute(
+                    status -> postCounterRepository.save(new PostCounter(name, initialCount.getAsLong())).getAmount()
+            );
+        } catch (DataIntegrityViolationException e) {
+            // 다른 요청이 먼저 만든 경우
+            return initialCount.getAsLong();
+        }
+    }
+
+    // 카운터 행을 잠그고 나서 센다. 잠근 뒤에 커밋되는 쓰기는 increase 에서 기다렸다가 센 값 위에 더해지고,
+    // 잠그기 전에 increase 한 쓰기는 커밋된 뒤에야 잠글 수 있으므로 센 값에 들어간다. 그래서 둘이 겹쳐도 어긋나지 않는다.
+    // 회원은 id 순서로 묶어서 묶음마다 한 트랜잭션으로 처리한다. 없던 행도 여기서 만든다.
+    // 시작 스레드를 막지 않도록 첫 재집계는 스케줄러에서 initial-delay 뒤에 돈다. 이전 재집계가 아직 돌고 있으면 건너뛴다.
+    @Scheduled(initialDelayString = "${custom.post.counter.reconcile-initial-delay}", fixedDelayString = "${custom.post.counter.reconcile-interval}")
+    public void reconcile() {
+        if (!reconciling.compareAndSet(false, true)) {
+            log.debug("글 카운터 재집계가 이미 진행 중이라 건너뜁니다.");
+            return;
+        }
+
+        try {
+            reconcileAll();
+        } finally {
+            reconciling.set(false);
+        }
+    }
+
+    private void reconcileAll() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        reconcileChunk(transactionTemplate, this::reconcileListed);
+
+        long lastId = 0;
+
+        while (true) {
+            List<Long> authorIds = memberRepository.findIds(lastId, PageRequest.of(0, RECONCILE_CHUNK_SIZE));
+
+            if (authorIds.isEmpty()) {
+                break;
+            }
+
+            reconcileChunk(transactionTemplate, () -> reconcileAuthors(authorIds));
+
+            lastId = authorIds.getLast();
+        }
+    }
+
+    // 한 묶음이 실패해도(처음 만드는 행이 다른 요청과 겹친 경우 등) 나머지는 계속하고, 다음 재집계에서 다시 맞춘다.
+    private void reconcileChunk(TransactionTemplate transactionTemplate, Runnable chunk) {
+        try {
+            transactionTemplate.executeWithoutResult(_ -> chunk.run());
+        } catch (DataAccessException e) {
+            log.warn("글 카운터 재집계 중 일부를 건너뜁니다. : {}", e.getMessage());
+        }
+    }
+
+    private void reconcileListed() {
+        List<PostCounter> locked = postCounterRepository.findAllForUpdateByNameIn(List.of(LISTED));
+        long count = postRepository.countByListed(true);
+
+        if (locked.isEmpty()) {
+            postCounterRepository.save(new PostCounter(LISTED, count));
+            return;
+        }
+
+        fix(locked.getFirst(), count);
+    }
+
+    private void reconcileAuthors(List<Long> authorIds) {
+        Map<String, PostCounter> locked = postCounterRepository.findAllForUpdateByNameIn(authorIds.stream().map(this::authorKey).toList())
+                .stream()
+                .collect(Collectors.toMap(PostCounter::getName, Function.identity()));
+
+        Map<Long, Long> counts = postRepository.countByAuthorIdIn(authorIds)
+                .stream()
+                .collect(Collectors.toMap(AuthorPostCount::authorId, AuthorPostCount::count));
+
+        for (long authorId : authorIds) {
+            String name = authorKey(authorId);
+            long count = counts.getOrDefault(authorId, 0L);
+            PostCounter counter = locked.get(name);
+
+            if (counter == null) {
+                postCounterRepository.save(new PostCounter(name, count));
+            } else {
+                fix(counter, count);
+            }
+        }
+    }
+
+    private void fix(PostCounter counter, long count) {
+        if (counter.getAmount() == count) {
+            return;
+        }
+
+        log.warn("글 카운터 {} 가 실제와 달라 보정합니다. {} -> {}", counter.getName(), counter.getAmount(), count);
+        counter.setAmount(count);
+    }
+
+    private String authorKey(long authorId) {
+        return "author:" + authorId;
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.restapi.domain.post.post.service;
+
+import com.example.restapi.domain.post.comment.entity.Comment;
+import com.example.restapi.domain.post.comment.repository.CommentRepository;
+import com.example.restapi.domain.post.post.dto.PostExportDto;
+import com.example.restapi.domain.post.post.entity.Post;
+import com.example.restapi.domain.post.post.repository.PostRepository;
+import com.example.restapi.standard.util.Utils;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+// 글과 댓글을 id 순서로 한 줄에 한 건씩(NDJSON) 내보낸다.
+// 글은 DB 커서로 흘려 읽고, 청크마다 댓글을 한 번에 읽어 쓴 뒤 영속성 컨텍스트를 비워서 데이터 양과 무관하게 메모리 사용량을 일정하게 유지한다.
+@Service
+@RequiredArgsConstructor
+public class PostExportService {
+
+    private static final int CHUNK_SIZE = 100;
+
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+
+    @PersistenceContext
+    private EntityManager em;
+
+    // afterId 보다 큰 id 의 글부터 내보낸다. 중단되면 마지막으로 받은 글의 id 로 다시 요청하면 된다.
+    @Transactional(readOnly = true)
+    public long export(long afterId, OutputStream out) throws IOException {
+        List<Post> chunk = new ArrayList<>(CHUNK_SIZE);
+        long count = 0;
+
+        try (Stream<Post> posts = postRepository.streamByIdGreaterThan(afterId)) {
+            Iterator<Post> iterator = posts.iterator();
+
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+
+                if (chunk.size() == CHUNK_SIZE) {
+                    count += writeChunk(chunk, out);
+                }
+            }
+        }
+
+        count += writeChunk(chunk, out);
+
+        return count;
+    }
+
+    private int writeChunk(List<Post> chunk, OutputStream out) throws IOException {
+        if (chunk.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> postIds = chunk.stream()
+                .map(Post::getId)
+                .toList();
+
+        Map<Long, List<Comment>> commentsByPostId = commentRepository.findByPostIdIn(postIds)
+                .stream()
+                .collect(Collectors.groupingBy(comment -> comment.getPost().getId()));
+
+        for (Post post : chunk) {
+            PostExportDto dto = new PostExportDto(post, commentsByPostId.getOrDefault(post.getId(), List.of()));
+
+            out.write(Utils.Json.toString(dto).getBytes(StandardCharsets.UTF_8));
+            out.write('\n');
+        }
+
+        out.flush();
+
+        int size = chunk.size();
+        chunk.clear();
+        em.clear();
+
+        return size;
+    }
+}
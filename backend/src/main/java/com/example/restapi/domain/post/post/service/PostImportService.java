@@ -0,0 +1,233 @@
+package com.example.restapi.domain.post.post.service;
+
+import com.example.restapi.domain.member.member.entity.Member;
+import com.example.restapi.domain.member.member.repository.MemberRepository;
+import com.example.restapi.domain.post.activity.service.ActivityRollupService;
+import com.example.restapi.domain.post.post.dto.PostImportItem;
+import com.example.restapi.domain.post.post.dto.PostImportResult;
+import com.example.restapi.domain.post.post.entity.Post;
+import com.example.restapi.domain.post.post.repository.PostRepository;
+import com.example.restapi.global.exception.ServiceException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+// 글(과 댓글) 일괄 가져오기
+// 요청 본문의 JSON 배열을 한 건씩 흘려 읽고, batchSize 건마다 한 트랜잭션으로 저장한다.
+// 배치 저장이 실패하면 그 배치만 한 건씩 다시 저장해서, 문제 있는 항목만 실패로 보고한다.
+@Service
+@RequiredArgsConstructor
+public class PostImportService {
+
+    public static final int MAX_BATCH_SIZE = 1000;
+
+    private final MemberRepository memberRepository;
+    private final PostRepository postRepository;
+    private final PostCounterService postCounterService;
+    private final PostStatisticsService postStatisticsService;
+    private final ActivityRollupService activityRollupService;
+    private final PostSearchIndex postSearchIndex;
+    private final PostListCache postListCache;
+    private final PlatformTransactionManager transactionManager;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+
+    @Value("${custom.post.import.batch-size}")
+    private int defaultBatchSize;
+
+    private record IndexedItem(int index, PostImportItem item) {}
+
+    private record BatchOutcome(List<Post> posts, List<PostImportResult.Failure> failures) {}
+
+    public PostImportResult importPosts(InputStream in, Integer batchSize) throws IOException {
+        int size = Math.clamp(batchSize == null ? defaultBatchSize : batchSize, 1, MAX_BATCH_SIZE);
+        PostImportResult result = new PostImportResult();
+        List<IndexedItem> batch = new ArrayList<>(size);
+
+        try (JsonParser parser = objectMapper.createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new ServiceException("400-1", "글 목록은 JSON 배열이어야 합니다.");
+            }
+
+            int index = 0;
+
+            try {
+                JsonToken token;
+
+                while ((token = parser.nextToken()) != JsonToken.END_ARRAY && token != null) {
+                    result.addTotal(1);
+
+                    // 항목 하나만 트리로 읽고 나서 변환한다. 타입이 맞지 않는 값("published": "abc" 등)은
+                    // 그 항목의 실패로 보고하고, 파서는 이미 다음 항목 앞에 있으므로 계속 읽을 수 있다.
+                    JsonNode node = parser.readValueAsTree();
+
+                    if (!node.isObject()) {
+                        result.addFailure(index++, "글은 JSON 객체여야 합니다.");
+                        continue;
+                    }
+
+                    PostImportItem item;
+
+                    try {
+                        item = objectMapper.treeToValue(node, PostImportItem.class);
+                    } catch (JsonProcessingException e) {
+                        result.addFailure(index++, "형식이 맞지 않는 값이 있습니다. : " + e.getOriginalMessage());
+                        continue;
+                    }
+
+                    String violations = validate(item);
+
+                    if (violations != null) {
+                        result.addFailure(index++, violations);
+                        continue;
+                    }
+
+                    batch.add(new IndexedItem(index++, item));
+
+                    if (batch.size() == size) {
+                        importBatch(batch, result);
+                        batch.clear();
+                    }
+                }
+            } catch (JsonProcessingException e) {
+                // JSON 자체가 깨진 경우. 이후 항목은 읽을 수 없으므로 여기까지 읽은 것만 저장하고 멈춘다.
+                result.addFailure(index, "JSON 형식 오류로 가져오기를 중단했습니다. : " + e.getOriginalMessage());
+            }
+        }
+
+        importBatch(batch, result);
+
+        return result;
+    }
+
+    private String validate(PostImportItem item) {
+        Set<ConstraintViolation<PostImportItem>> violations = validator.validate(item);
+
+        if (violations.isEmpty()) {
+            return null;
+        }
+
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + " : " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining("\n"));
+    }
+
+    private void importBatch(List<IndexedItem> batch, PostImportResult result) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        List<BatchOutcome> outcomes = new ArrayList<>();
+
+        try {
+            outcomes.add(transactionTemplate.execute(_ -> saveBatch(batch)));
+        } catch (RuntimeException e) {
+            for (IndexedItem indexedItem : batch) {
+                try {
+                    outcomes.add(transactionTemplate.execute(_ -> saveBatch(List.of(indexedItem))));
+                } catch (RuntimeException itemException) {
+                    result.addFailure(indexedItem.index(), "저장에 실패했습니다. : " + itemException.getMessage());
+                }
+            }
+        }
+
+        boolean listedChanged = false;
+
+        for (BatchOutcome outcome : outcomes) {
+            outcome.failures().forEach(failure -> result.addFailure(failure.index(), failure.reason()));
+
+            for (Post post : outcome.posts()) {
+                postSearchIndex.add(post);
+                listedChanged |= post.isListed();
+            }
+
+            result.addImported(
+                    outcome.posts().size(),
+                    outcome.posts().stream().mapToInt(post -> post.getComments().size()).sum()
+            );
+        }
+
+        // 커밋된 뒤. 공개 글이 늘면 검색어 없는 목록이 모두 바뀌므로 글마다 고르지 않고 비운다.
+        if (listedChanged) {
+            postListCache.clear();
+        }
+    }
+
+    // 배치의 작성자(댓글 작성자 포함)는 한 번의 IN 조회로 가져온다.
+    private BatchOutcome saveBatch(List<IndexedItem> batch) {
+        Set<String> usernames = batch.stream()
+                .flatMap(indexedItem -> Stream.concat(
+                        Stream.of(indexedItem.item().authorUsername()),
+                        comments(indexedItem.item()).stream().map(PostImportItem.CommentItem::authorUsername)
+                ))
+                .collect(Collectors.toSet());
+
+        Map<String, Member> authors = memberRepository.findByUsernameIn(usernames)
+                .stream()
+                .collect(Collectors.toMap(Member::getUsername, Function.identity()));
+
+        List<Post> posts = new ArrayList<>(batch.size());
+        List<PostImportResult.Failure> failures = new ArrayList<>();
+
+        for (IndexedItem indexedItem : batch) {
+            PostImportItem item = indexedItem.item();
+
+            Optional<String> unknownAuthor = Stream.concat(
+                            Stream.of(item.authorUsername()),
+                            comments(item).stream().map(PostImportItem.CommentItem::authorUsername)
+                    )
+                    .filter(username -> !authors.containsKey(username))
+                    .findFirst();
+
+            if (unknownAuthor.isPresent()) {
+                failures.add(new PostImportResult.Failure(indexedItem.index(), "존재하지 않는 작성자입니다. : " + unknownAuthor.get()));
+                continue;
+            }
+
+            Member author = authors.get(item.authorUsername());
+
+            Post post = Post
+                    .builder()
+                    .author(author)
+                    .authorName(author.getNickname())
+                    .title(item.title())
+                    .content(item.content())
+                    .published(item.published())
+                    .listed(item.listed())
+                    .build();
+
+            comments(item).forEach(comment -> post.addComment(authors.get(comment.authorUsername()), comment.content()));
+
+            posts.add(post);
+        }
+
+        postRepository.saveAll(posts);
+        postCounterService.onWriteAll(posts);
+        postStatisticsService.onWriteAll(posts);
+        activityRollupService.onPostWriteAll(posts);
+
+        return new BatchOutcome(posts, failures);
+    }
+
+    private List<PostImportItem.CommentItem> comments(PostImportItem item) {
+        return item.comments() == null ? List.of() : item.comments();
+    }
+}
@@ -0,0 +1,185 @@
+package com.example.restapi.domain.post.post.service;
+
+import com.example.restapi.domain.post.post.controller.SearchKeywordType;
+import com.example.restapi.domain.post.post.dto.PageDto;
+import com.example.restapi.domain.post.post.entity.Post;
+import com.example.restapi.standard.util.Utils;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiPredicate;
+import java.util.function.Supplier;
+
+// 공개 글 목록(PageDto) 캐시
+// 글 작성/수정/삭제가 커밋된 뒤, 결과가 달라질 수 있는 항목만 골라서 제거한다.
+// - 공개 글 수가 바뀌면 totalItems 가 모든 페이지에 들어 있으므로 검색어 없는 목록은 모두 제거
+// - 검색 목록은 글이 검색어에 걸릴 때만 제거
+// - 공개 여부가 그대로인 수정은 그 글이 들어 있는 페이지(와 검색 결과가 바뀔 수 있는 검색 목록)만 제거
+// 무효화는 이 인스턴스의 커밋만 보므로, 다른 인스턴스에서 바뀐 내용은 ttl 이 지나야 반영된다.
+@Component
+public class PostListCache {
+
+    public record Key(int page, int pageSize, SearchKeywordType keywordType, String keyword) {
+        public Key {
+            page = Math.max(page, 1);
+            pageSize = Math.clamp(pageSize, 1, PostService.MAX_PAGE_SIZE);
+            keyword = normalizeKeyword(keyword);
+
+            // 검색어가 없으면 검색 종류와 무관하게 같은 결과
+            if (keyword.isBlank()) {
+                keywordType = null;
+                keyword = "";
+            }
+        }
+
+        boolean hasKeyword() {
+            return keywordType != null;
+        }
+    }
+
+    private final boolean enabled;
+    private final Cache<Key, PageDto> cache;
+
+    // 무효화가 일어날 때마다 증가. 조회 도중 무효화가 끼어들었다면 그 결과는 캐시에 넣지 않는다.
+    private final AtomicLong generation = new AtomicLong();
+
+    public PostListCache(
+            @Value("${custom.post.list-cache.enabled}") boolean enabled,
+            @Value("${custom.post.list-cache.max-size}") long maxSize,
+            @Value("${custom.post.list-cache.ttl}") Duration ttl,
+            MeterRegistry meterRegistry
+    ) {
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "postList");
+    }
+
+    public static String normalizeKeyword(String keyword) {
+        return keyword == null ? "" : Normalizer.normalize(keyword, Normalizer.Form.NFC);
+    }
+
+    public PageDto get(Key key, Supplier<PageDto> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+
+        PageDto cached = cache.getIfPresent(key);
+
+        if (cached != null) {
+            return cached;
+        }
+
+        long startGeneration = generation.get();
+        PageDto pageDto = loader.get();
+
+        if (generation.get() == startGeneration) {
+            cache.asMap().putIfAbsent(key, pageDto);
+
+            // 넣는 사이에 무효화가 지나갔다면 되돌린다.
+            if (generation.get() != startGeneration) {
+                cache.asMap().remove(key, pageDto);
+            }
+        }
+
+        return pageDto;
+    }
+
+    public void onWrite(Post post) {
+        if (!post.isListed()) {
+            return;
+        }
+
+        invalidateAfterCommit((key, _) -> !key.hasKeyword() || matches(key, post.getTitle(), post.getContent()));
+    }
+
+    public void onModify(Post post, String oldTitle, String oldContent, boolean wasListed) {
+        boolean listed = post.isListed();
+
+        if (!wasListed && !listed) {
+            return;
+        }
+
+        long id = post.getId();
+        String title = post.getTitle();
+        String content = post.getContent();
+
+        if (wasListed != listed) {
+            invalidateAfterCommit((key, _) -> !key.hasKeyword()
+                    || matches(key, oldTitle, oldContent)
+                    || matches(key, title, content));
+            return;
+        }
+
+        invalidateAfterCommit((key, pageDto) -> contains(pageDto, id)
+                || (key.hasKeyword() && (matches(key, oldTitle, oldContent) || matches(key, title, content))));
+    }
+
+    public void onDelete(Post post) {
+        if (!post.isListed()) {
+            return;
+        }
+
+        String title = post.getTitle();
+        String content = post.getContent();
+
+        invalidateAfterCommit((key, _) -> !key.hasKeyword() || matches(key, title, content));
+    }
+
+    // 작성자 이름이 바뀌면 그 작성자의 글이 들어 있는 페이지만 제거
+    public void onAuthorNameChanged(long authorId) {
+        invalidateAfterCommit((_, pageDto) -> pageDto.getItems()
+                .stream()
+                .anyMatch(postDto -> postDto.getAuthorId() == authorId));
+    }
+
+    public void clear() {
+        generation.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    private void invalidateAfterCommit(BiPredicate<Key, PageDto> affected) {
+        if (!enabled) {
+            return;
+        }
+
+        Utils.Tx.afterCommit(() -> {
+            generation.incrementAndGet();
+            cache.asMap().entrySet().removeIf(entry -> affected.test(entry.getKey(), entry.getValue()));
+        });
+    }
+
+    private boolean contains(PageDto pageDto, long id) {
+        return pageDto.getItems()
+                .stream()
+                .anyMatch(postDto -> postDto.getId() == id);
+    }
+
+    // DB 의 LIKE 는 대소문자/악센트를 무시할 수 있으므로, 더 많이 걸리는 쪽으로 비교한다. (과하게 지우는 것은 괜찮다)
+    private boolean matches(Key key, String title, String content) {
+        String text = switch (key.keywordType()) {
+            case SearchKeywordType.TITLE -> title;
+            case SearchKeywordType.CONTENT -> content;
+        };
+
+        return text != null && fold(text).contains(fold(key.keyword()));
+    }
+
+    private String fold(String str) {
+        return Normalizer.normalize(str, Normalizer.Form.NFD)
+                .replaceAll("\\p{M}", "")
+                .toLowerCase(Locale.ROOT);
+    }
+}
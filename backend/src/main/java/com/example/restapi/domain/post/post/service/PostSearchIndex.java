@@ -0,0 +1,307 @@
+package com.example.restapi.domain.post.post.service;
+
+import com.example.restapi.domain.post.post.controller.SearchKeywordType;
+import com.example.restapi.domain.post.post.dto.PostSearchText;
+import com.example.restapi.domain.post.post.entity.Post;
+import com.example.restapi.domain.post.post.repository.PostRepository;
+import com.example.restapi.standard.util.Utils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 글 제목/내용에 대한 메모리 역색인 (n-gram -> 정렬된 글 id 배열)
+// - 글자 하나(1-gram)와 두 글자(2-gram)를 모두 색인해서 한 글자 검색어도 색인으로 처리한다.
+// - 포스팅은 박싱 없는 정렬된 long[] 이라 (n-gram, 글) 쌍마다 8바이트 정도만 쓴다.
+// - 검색은 후보 전체를 만들지 않고, id 순서로 교집합을 걸으며 필요한 만큼(limit)만 꺼낸다.
+// 색인은 후보를 좁히는 용도이고, 최종 일치 여부는 DB 의 LIKE 조건으로 다시 확인한다.
+// 그래서 색인에 남은 오래된 항목(거짓 양성)은 허용되지만, 빠진 항목(거짓 음성)은 허용되지 않는다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostSearchIndex {
+
+    private static final int REBUILD_CHUNK_SIZE = 1000;
+
+    private final PostRepository postRepository;
+
+    @Value("${custom.post.search-index.enabled}")
+    private boolean enabled;
+    // 한 번의 candidates 호출에서 읽기 잠금을 잡은 채 훑는 최대 항목 수
+    @Value("${custom.post.search-index.scan-limit}")
+    private int scanLimit;
+
+    private final Map<String, Postings> titlePostings = new ConcurrentHashMap<>();
+    private final Map<String, Postings> contentPostings = new ConcurrentHashMap<>();
+
+    private volatile boolean ready = false;
+
+    // ids : 조건에 맞는 후보 (요청한 방향의 순서), lastScannedId : 다음 호출의 시작 위치, exhausted : 더 볼 항목이 없음
+    public record Candidates(long[] ids, long lastScannedId, boolean exhausted) {
+        static Candidates empty(long fromId) {
+            return new Candidates(new long[0], fromId, true);
+        }
+    }
+
+    // n-gram 하나의 글 id 목록. 새 글은 가장 큰 id 라서 쓰기는 대부분 끝에 붙이는 것으로 끝난다.
+    private static final class Postings {
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        private long[] ids = new long[4];
+        private int size;
+
+        void add(long id) {
+            lock.writeLock().lock();
+
+            try {
+                if (size == 0 || ids[size - 1] < id) {
+                    ensureCapacity();
+                    ids[size++] = id;
+                    return;
+                }
+
+                int pos = Arrays.binarySearch(ids, 0, size, id);
+
+                if (pos >= 0) {
+                    return;
+                }
+
+                int insertAt = -pos - 1;
+                ensureCapacity();
+                System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+                ids[insertAt] = id;
+                size++;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        void remove(long id) {
+            lock.writeLock().lock();
+
+            try {
+                int pos = Arrays.binarySearch(ids, 0, size, id);
+
+                if (pos < 0) {
+                    return;
+                }
+
+                System.arraycopy(ids, pos + 1, ids, pos, size - pos - 1);
+                size--;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        private void ensureCapacity() {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size + (size >> 1) + 1);
+            }
+        }
+
+        // 아래 메서드는 읽기 잠금을 잡은 상태에서만 부른다.
+        boolean contains(long id) {
+            return Arrays.binarySearch(ids, 0, size, id) >= 0;
+        }
+
+        // id 보다 큰 첫 항목의 위치
+        int upperBound(long id) {
+            int pos = Arrays.binarySearch(ids, 0, size, id);
+
+            return pos >= 0 ? pos + 1 : -pos - 1;
+        }
+    }
+
+    // 만드는 동안은 ready 가 false 라 검색은 LIKE 로 처리된다. 시작 스레드를 막지 않도록 비동기로 만든다.
+    // 글은 id/제목/내용만 프로젝션으로 읽으므로 청크를 넘기면 바로 버려지고, 엔티티처럼 영속성 컨텍스트에 쌓이지 않는다.
+    // 만드는 중에 바뀐 글은 add/update/remove 가 같이 반영하고, 남는 오래된 항목은 거짓 양성이라 괜찮다.
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+
+        long lastId = 0;
+
+        while (true) {
+            List<PostSearchText> posts = postRepository.findSearchTextsByIdGreaterThan(lastId, PageRequest.of(0, REBUILD_CHUNK_SIZE));
+
+            if (posts.isEmpty()) {
+                break;
+            }
+
+            for (PostSearchText post : posts) {
+                index(post.id(), post.title(), post.content());
+            }
+
+            lastId = posts.getLast().id();
+        }
+
+        ready = true;
+
+        log.info("검색 색인을 만들었습니다. (제목 n-gram {}개, 내용 n-gram {}개)", titlePostings.size(), contentPostings.size());
+    }
+
+    public boolean isReady() {
+        return enabled && ready;
+    }
+
+    public void add(Post post) {
+        index(post.getId(), post.getTitle(), post.getContent());
+    }
+
+    public void update(Post post, String oldTitle, String oldContent) {
+        long id = post.getId();
+
+        Set<String> newTitleGrams = tokenize(post.getTitle());
+        Set<String> newContentGrams = tokenize(post.getContent());
+
+        // 새 n-gram 은 즉시 추가하고, 사라진 n-gram 은 커밋된 이후에만 제거한다.
+        newTitleGrams.forEach(gram -> addPosting(titlePostings, gram, id));
+        newContentGrams.forEach(gram -> addPosting(contentPostings, gram, id));
+
+        Set<String> staleTitleGrams = tokenize(oldTitle);
+        staleTitleGrams.removeAll(newTitleGrams);
+        Set<String> staleContentGrams = tokenize(oldContent);
+        staleContentGrams.removeAll(newContentGrams);
+
+        Utils.Tx.afterCommit(() -> {
+            staleTitleGrams.forEach(gram -> removePosting(titlePostings, gram, id));
+            staleContentGrams.forEach(gram -> removePosting(contentPostings, gram, id));
+        });
+    }
+
+    public void remove(Post post) {
+        long id = post.getId();
+        Set<String> titleGrams = tokenize(post.getTitle());
+        Set<String> contentGrams = tokenize(post.getContent());
+
+        Utils.Tx.afterCommit(() -> {
+            titleGrams.forEach(gram -> removePosting(titlePostings, gram, id));
+            contentGrams.forEach(gram -> removePosting(contentPostings, gram, id));
+        });
+    }
+
+    // 검색어의 n-gram 을 모두 가진 글 id 를 fromId 다음부터 limit 개까지 찾는다.
+    // 내림차순이면 fromId 보다 작은 id, 오름차순이면 큰 id 를 본다.
+    // 한 번에 scanLimit 개까지만 훑으므로 후보가 limit 개보다 적어도 exhausted 가 아니면 lastScannedId 부터 다시 부른다.
+    public Candidates candidates(SearchKeywordType keywordType, String keyword, long fromId, boolean ascending, int limit) {
+        Map<String, Postings> postings = switch (keywordType) {
+            case SearchKeywordType.TITLE -> titlePostings;
+            case SearchKeywordType.CONTENT -> contentPostings;
+        };
+
+        String normalized = Utils.Ngram.normalize(keyword);
+
+        if (normalized.isEmpty()) {
+            return Candidates.empty(fromId);
+        }
+
+        // 읽기 잠금은 n-gram 순서대로 잡는다. (쓰기 대기가 있을 때 읽는 쪽끼리 엇갈려 멈추지 않도록)
+        SortedSet<String> grams = new TreeSet<>(Utils.Ngram.tokenize(normalized, normalized.length() == 1 ? 1 : 2));
+        List<Postings> lists = new ArrayList<>(grams.size());
+
+        for (String gram : grams) {
+            Postings list = postings.get(gram);
+
+            if (list == null) {
+                return Candidates.empty(fromId);
+            }
+
+            lists.add(list);
+        }
+
+        List<Lock> locks = new ArrayList<>(lists.size());
+
+        try {
+            for (Postings list : lists) {
+                Lock lock = list.lock.readLock();
+                lock.lock();
+                locks.add(lock);
+            }
+
+            return intersect(lists, fromId, ascending, limit);
+        } finally {
+            for (Lock lock : locks.reversed()) {
+                lock.unlock();
+            }
+        }
+    }
+
+    // 가장 짧은 목록을 걸으면서 나머지 목록에 모두 있는지 이진 탐색으로 확인한다.
+    private Candidates intersect(List<Postings> lists, long fromId, boolean ascending, int limit) {
+        List<Postings> bySize = new ArrayList<>(lists);
+        bySize.sort(Comparator.comparingInt(list -> list.size));
+
+        Postings smallest = bySize.getFirst();
+        List<Postings> others = bySize.subList(1, bySize.size());
+
+        long[] found = new long[Math.min(limit, smallest.size)];
+        int foundCount = 0;
+        int scanned = 0;
+        long lastScannedId = fromId;
+
+        int step = ascending ? 1 : -1;
+        int i = ascending ? smallest.upperBound(fromId) : smallest.upperBound(fromId - 1) - 1;
+
+        for (; i >= 0 && i < smallest.size; i += step) {
+            if (foundCount == found.length || scanned == scanLimit) {
+                return new Candidates(Arrays.copyOf(found, foundCount), lastScannedId, false);
+            }
+
+            long id = smallest.ids[i];
+            lastScannedId = id;
+            scanned++;
+
+            if (containsAll(others, id)) {
+                found[foundCount++] = id;
+            }
+        }
+
+        return new Candidates(Arrays.copyOf(found, foundCount), lastScannedId, true);
+    }
+
+    private boolean containsAll(List<Postings> lists, long id) {
+        for (Postings list : lists) {
+            if (!list.contains(id)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private void index(long id, String title, String content) {
+        tokenize(title).forEach(gram -> addPosting(titlePostings, gram, id));
+        tokenize(content).forEach(gram -> addPosting(contentPostings, gram, id));
+    }
+
+    private static Set<String> tokenize(String text) {
+        Set<String> grams = Utils.Ngram.tokenize(text, 1);
+        grams.addAll(Utils.Ngram.tokenize(text, 2));
+
+        return grams;
+    }
+
+    // 빈 목록은 지우지 않고 둔다. (지우는 순간 다른 스레드가 추가하면 그 항목을 잃을 수 있다.)
+    private void addPosting(Map<String, Postings> postings, String gram, long id) {
+        postings.computeIfAbsent(gram, _ -> new Postings()).add(id);
+    }
+
+    private void removePosting(Map<String, Postings> postings, String gram, long id) {
+        Postings list = postings.get(gram);
+
+        if (list != null) {
+            list.remove(id);
+        }
+    }
+}
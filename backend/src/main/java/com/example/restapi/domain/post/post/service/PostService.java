@@ -1,16 +1,28 @@
 package com.example.restapi.domain.post.post.service;
 
 import com.example.restapi.domain.member.member.entity.Member;
+import com.example.restapi.domain.post.activity.service.ActivityRollupService;
 import com.example.restapi.domain.post.post.controller.SearchKeywordType;
+import com.example.restapi.domain.post.post.dto.PostCursor;
+import com.example.restapi.domain.post.post.dto.PostDto;
+import com.example.restapi.domain.post.post.dto.PostVersion;
 import com.example.restapi.domain.post.post.entity.Post;
 import com.example.restapi.domain.post.post.repository.PostRepository;
+import com.example.restapi.domain.post.post.repository.PostSearchCondition;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,76 +30,270 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class PostService {
 
+    public static final int MAX_PAGE_SIZE = 100;
+    // 색인 후보를 DB 로 확인할 때 한 번에 보내는 id 수
+    private static final int INDEX_BATCH_MIN = 100;
+    private static final int INDEX_BATCH_MAX = 1000;
+
     private final PostRepository postRepository;
+    private final PostSearchIndex postSearchIndex;
+    private final PostCounterService postCounterService;
+    private final PostStatisticsService postStatisticsService;
+    private final PostListCache postListCache;
+    private final ActivityRollupService activityRollupService;
+
+    @Value("${custom.post.search-count-cap}")
+    private int searchCountCap;
 
+    @Transactional
     public Post write(Member author, String title, String content, boolean published, boolean listed) {
 
-        return postRepository.save(
+        Post post = postRepository.save(
                 Post
                         .builder()
                         .author(author)
+                        .authorName(author.getNickname())
                         .title(title)
                         .content(content)
                         .published(published)
                         .listed(listed)
                         .build()
         );
+
+        postSearchIndex.add(post);
+        postCounterService.onWrite(post);
+        postStatisticsService.onWrite(post);
+        postListCache.onWrite(post);
+        activityRollupService.onPostWrite(post);
+
+        return post;
     }
 
     public List<Post> getItems() {
         return postRepository.findAll();
     }
 
-    public Page<Post> getListedItems(int page, int pageSize, SearchKeywordType keywordType, String keyword) {
-        PageRequest pageRequest = PageRequest.of(page - 1, pageSize, Sort.by(Sort.Direction.DESC, "id"));
+    @Transactional(readOnly = true)
+    public Page<PostDto> getListedItems(int page, int pageSize, SearchKeywordType keywordType, String keyword) {
+        return getItems(null, page, pageSize, keywordType, keyword);
+    }
 
-        if (keyword.isBlank()) {
-            return postRepository.findByListed(true, pageRequest);
+    public Page<PostDto> getMyItems(Member author, int page, int pageSize, SearchKeywordType keywordType, String keyword) {
+        return getItems(author, page, pageSize, keywordType, keyword);
+    }
+
+    // 목록은 Slice 로 조회하고, 전체 개수는 COUNT(*) 대신 카운터(검색이 없을 때) 또는 상한이 있는 개수(검색일 때)로 채운다.
+    private Page<PostDto> getItems(Member author, int page, int pageSize, SearchKeywordType keywordType, String keyword) {
+        PageRequest pageRequest = PageRequest.of(Math.max(page, 1) - 1, limitPageSize(pageSize), Sort.by(Sort.Direction.DESC, "id"));
+
+        PostSearchCondition condition = getSearchCondition(author, keywordType, keyword);
+        List<PostDto> posts = useSearchIndex(condition)
+                ? findByIndex(condition, keyword, Long.MAX_VALUE, false, pageRequest.getOffset(), pageRequest.getPageSize())
+                : postRepository.findByCondition(condition, pageRequest.getOffset(), pageRequest.getPageSize());
+
+        return new PageImpl<>(posts, pageRequest, countItems(condition, keyword));
+    }
+
+    private long countItems(PostSearchCondition condition, String keyword) {
+        if (condition.keywordType() == null) {
+            return condition.author() == null
+                    ? postCounterService.getListedCount()
+                    : postCounterService.getAuthorCount(condition.author().getId());
         }
 
-        String likeKeyword = "%" + keyword + "%";
+        if (useSearchIndex(condition)) {
+            return countByIndex(condition, keyword);
+        }
+
+        return postRepository.countByCondition(condition, searchCountCap);
+    }
+
+    public Slice<PostDto> getListedItemsByCursor(PostCursor cursor, int pageSize, SearchKeywordType keywordType, String keyword) {
+        return getItemsByCursor(null, cursor, pageSize, keywordType, keyword);
+    }
 
-        return switch (keywordType) {
-            case SearchKeywordType.CONTENT -> postRepository.findByListedAndContentLike(true, likeKeyword, pageRequest);
-            case SearchKeywordType.TITLE -> postRepository.findByListedAndTitleLike(true, likeKeyword, pageRequest);
-            default -> postRepository.findByListed(true, pageRequest);
-        };
+    public Slice<PostDto> getMyItemsByCursor(Member author, PostCursor cursor, int pageSize, SearchKeywordType keywordType, String keyword) {
+        return getItemsByCursor(author, cursor, pageSize, keywordType, keyword);
     }
 
-    public Page<Post> getMyItems(Member author, int page, int pageSize, SearchKeywordType keywordType, String keyword) {
-        PageRequest pageRequest = PageRequest.of(page - 1, pageSize, Sort.by(Sort.Direction.DESC, "id"));
+    private Slice<PostDto> getItemsByCursor(Member author, PostCursor cursor, int pageSize, SearchKeywordType keywordType, String keyword) {
+        int size = limitPageSize(pageSize);
+        PageRequest pageRequest = PageRequest.of(0, size);
 
+        PostSearchCondition condition = getSearchCondition(author, keywordType, keyword);
+        boolean backward = cursor != null && cursor.isBackward();
+
+        // 다음 페이지 존재 여부를 알기 위해 한 건 더 조회
+        List<PostDto> posts;
+
+        if (useSearchIndex(condition)) {
+            long fromId = cursor != null ? cursor.id() : Long.MAX_VALUE;
+            posts = findByIndex(condition, keyword, fromId, backward, 0, size + 1);
+        } else {
+            posts = postRepository.findByCursor(condition, cursor, size + 1);
+        }
+
+        boolean hasMore = posts.size() > size;
+
+        if (hasMore) {
+            posts = backward ? posts.subList(1, posts.size()) : posts.subList(0, size);
+        }
+
+        return new SliceImpl<>(posts, pageRequest, hasMore);
+    }
+
+    private PostSearchCondition getSearchCondition(Member author, SearchKeywordType keywordType, String keyword) {
         if (keyword.isBlank()) {
-            return postRepository.findByAuthor(author, pageRequest);
+            return new PostSearchCondition(author, null, null, null);
         }
 
-        String likeKeyword = "%" + keyword + "%";
+        return new PostSearchCondition(author, keywordType, "%" + escapeLike(keyword) + "%", null);
+    }
+
+    // 검색어의 %, _ 는 와일드카드가 아니라 글자 그대로 찾는다. (PostRepositoryImpl 의 escape '\')
+    private static String escapeLike(String keyword) {
+        StringBuilder escaped = new StringBuilder(keyword.length() + 8);
+
+        for (int i = 0; i < keyword.length(); i++) {
+            char c = keyword.charAt(i);
 
-        return switch (keywordType) {
-            case SearchKeywordType.CONTENT -> postRepository.findByAuthorAndContentLike(author, likeKeyword, pageRequest);
-            case SearchKeywordType.TITLE -> postRepository.findByAuthorAndTitleLike(author, likeKeyword, pageRequest);
-            default -> postRepository.findByAuthor(author, pageRequest);
-        };
+            if (c == '\\' || c == '%' || c == '_') {
+                escaped.append('\\');
+            }
+
+            escaped.append(c);
+        }
+
+        return escaped.toString();
+    }
+
+    // 공개 글 검색은 색인으로 처리한다.
+    // 내 글 검색은 작성자 인덱스로 그 회원의 글만 읽으므로 LIKE 로 충분하다. 색인이 준비되기 전에도 LIKE 로 처리한다.
+    private boolean useSearchIndex(PostSearchCondition condition) {
+        return condition.keywordType() != null && condition.author() == null && postSearchIndex.isReady();
+    }
+
+    // 색인에서 id 순서대로 후보를 묶음으로 받아 DB 에서 LIKE 와 목록 조건으로 확인하고, skip 건을 건너뛴 뒤 limit 건을 모은다.
+    // 후보가 아무리 많아도 필요한 만큼만 확인하므로 첫 페이지 비용은 글 수와 무관하다.
+    // 결과는 방향과 관계없이 id 내림차순이다. (findByCursor 와 같음)
+    private List<PostDto> findByIndex(PostSearchCondition condition, String keyword, long fromId, boolean ascending, long skip, int limit) {
+        List<PostDto> found = new ArrayList<>(limit);
+        long toSkip = skip;
+
+        while (found.size() < limit) {
+            int batchSize = Math.clamp((toSkip + limit - found.size()) * 2, INDEX_BATCH_MIN, INDEX_BATCH_MAX);
+            PostSearchIndex.Candidates candidates = postSearchIndex.candidates(condition.keywordType(), keyword, fromId, ascending, batchSize);
+
+            if (candidates.ids().length > 0) {
+                List<PostDto> verified = new ArrayList<>(postRepository.findByCondition(withCandidates(condition, candidates), 0, candidates.ids().length));
+
+                if (ascending) {
+                    Collections.reverse(verified);
+                }
+
+                for (PostDto post : verified) {
+                    if (toSkip > 0) {
+                        toSkip--;
+                    } else if (found.size() < limit) {
+                        found.add(post);
+                    }
+                }
+            }
+
+            if (candidates.exhausted()) {
+                break;
+            }
+
+            fromId = candidates.lastScannedId();
+        }
+
+        if (ascending) {
+            Collections.reverse(found);
+        }
+
+        return found;
+    }
+
+    // 검색 결과 개수도 색인 후보를 확인하며 searchCountCap 까지만 센다.
+    private long countByIndex(PostSearchCondition condition, String keyword) {
+        long count = 0;
+        long fromId = Long.MAX_VALUE;
+
+        while (count < searchCountCap) {
+            PostSearchIndex.Candidates candidates = postSearchIndex.candidates(condition.keywordType(), keyword, fromId, false, INDEX_BATCH_MAX);
+
+            if (candidates.ids().length > 0) {
+                count += postRepository.countByCondition(withCandidates(condition, candidates), (int) (searchCountCap - count));
+            }
+
+            if (candidates.exhausted()) {
+                break;
+            }
+
+            fromId = candidates.lastScannedId();
+        }
+
+        return count;
+    }
+
+    private static PostSearchCondition withCandidates(PostSearchCondition condition, PostSearchIndex.Candidates candidates) {
+        return new PostSearchCondition(condition.author(), condition.keywordType(), condition.likeKeyword(), Arrays.stream(candidates.ids()).boxed().toList());
+    }
+
+
+    private int limitPageSize(int pageSize) {
+        return Math.clamp(pageSize, 1, MAX_PAGE_SIZE);
     }
 
     public Optional<Post> getItem(long id) {
         return postRepository.findById(id);
     }
 
+    public boolean exists(long id) {
+        return postRepository.existsById(id);
+    }
+
+    public Optional<Long> getCommentVersion(long id) {
+        return postRepository.findCommentVersionById(id);
+    }
+
+    public void increaseCommentVersion(long id) {
+        postRepository.increaseCommentVersion(id);
+    }
+
+    public Optional<PostVersion> getItemVersion(long id) {
+        return postRepository.findVersionById(id);
+    }
+
     public long count() {
         return postRepository.count();
     }
 
+    @Transactional
     public void delete(Post post) {
         postRepository.delete(post);
+        postSearchIndex.remove(post);
+        postCounterService.onDelete(post);
+        postStatisticsService.onDelete(post);
+        postListCache.onDelete(post);
     }
 
     @Transactional
     public void modify(Post post, String title, String content, boolean published, boolean listed) {
+        String oldTitle = post.getTitle();
+        String oldContent = post.getContent();
+        boolean wasPublished = post.isPublished();
+        boolean wasListed = post.isListed();
+
         post.setTitle(title);
         post.setContent(content);
         post.setPublished(published);
         post.setListed(listed);
+
+        postSearchIndex.update(post, oldTitle, oldContent);
+        postCounterService.onModify(post, wasListed);
+        postStatisticsService.onModify(post, wasPublished, wasListed);
+        postListCache.onModify(post, oldTitle, oldContent, wasListed);
     }
 
     public void flush() {
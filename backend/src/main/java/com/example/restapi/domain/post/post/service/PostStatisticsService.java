@@ -0,0 +1,132 @@
+package com.example.restapi.domain.post.post.service;
+
+import com.example.restapi.domain.post.post.dto.PostStatistics;
+import com.example.restapi.domain.post.post.entity.Post;
+import com.example.restapi.domain.post.post.repository.PostRepository;
+import com.example.restapi.standard.util.Utils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 글 통계(전체/공개/목록 노출 수)를 메모리에 두고 커밋된 변경만큼 증감한다. 조회는 필드 하나를 읽는 O(1).
+// 다른 인스턴스의 쓰기나 직접 넣은 데이터로 생기는 차이는 주기적인 재집계로 맞춘다.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostStatisticsService {
+
+    private final PostRepository postRepository;
+    private final ReentrantLock reconcileLock = new ReentrantLock();
+
+    // 아직 집계 전이면 null
+    private volatile PostStatistics statistics;
+
+    // 재집계 중에 커밋된 증감. 집계 결과에 다시 더한다.
+    private PostStatistics pending;
+
+    public PostStatistics getStatistics() {
+        PostStatistics current = statistics;
+
+        if (current == null) {
+            // 첫 집계 전이면 진행 중인 집계를 기다렸다가, 그래도 없으면 직접 센다.
+            reconcileLock.lock();
+
+            try {
+                if (statistics == null) {
+                    count();
+                }
+            } finally {
+                reconcileLock.unlock();
+            }
+
+            current = statistics;
+        }
+
+        return current;
+    }
+
+    // 시작 스레드를 막지 않도록 첫 재집계는 스케줄러에서 initial-delay 뒤에 돈다. (그 전에 조회하면 getStatistics 가 센다.)
+    // 이전 재집계가 아직 돌고 있으면 같은 결과를 다시 셀 필요가 없으므로 건너뛴다.
+    @Scheduled(initialDelayString = "${custom.post.statistics.reconcile-initial-delay}", fixedDelayString = "${custom.post.statistics.reconcile-interval}")
+    public void reconcile() {
+        if (!reconcileLock.tryLock()) {
+            log.debug("글 통계 재집계가 이미 진행 중이라 건너뜁니다.");
+            return;
+        }
+
+        try {
+            count();
+        } finally {
+            reconcileLock.unlock();
+        }
+    }
+
+    // 한 번의 집계 쿼리로 다시 센다. 집계와 겹쳐 커밋된 변경은 pending 에 모아 결과에 더한다.
+    // (집계 직전에 커밋되고 반영이 늦은 변경은 두 번 세어질 수 있지만 다음 재집계에서 바로잡힌다.)
+    // reconcileLock 을 잡은 상태에서만 부른다.
+    private void count() {
+        synchronized (this) {
+            pending = PostStatistics.ZERO;
+        }
+
+        PostStatistics counted = postRepository.countStatistics();
+
+        synchronized (this) {
+            PostStatistics reconciled = counted.plus(pending);
+            PostStatistics old = statistics;
+
+            if (old != null && !old.equals(reconciled)) {
+                log.warn("글 통계가 실제와 달라 보정합니다. {} -> {}", old, reconciled);
+            }
+
+            statistics = reconciled;
+            pending = null;
+        }
+    }
+
+    // 아래 메서드들은 글 작성/수정/삭제와 같은 트랜잭션 안에서 호출한다. 반영은 커밋된 뒤에 한다.
+    public void onWrite(Post post) {
+        add(new PostStatistics(1, post.isPublished() ? 1 : 0, post.isListed() ? 1 : 0));
+    }
+
+    public void onWriteAll(List<Post> posts) {
+        add(new PostStatistics(
+                posts.size(),
+                posts.stream().filter(Post::isPublished).count(),
+                posts.stream().filter(Post::isListed).count()
+        ));
+    }
+
+    public void onModify(Post post, boolean wasPublished, boolean wasListed) {
+        int publishedDelta = Boolean.compare(post.isPublished(), wasPublished);
+        int listedDelta = Boolean.compare(post.isListed(), wasListed);
+
+        if (publishedDelta == 0 && listedDelta == 0) {
+            return;
+        }
+
+        add(new PostStatistics(0, publishedDelta, listedDelta));
+    }
+
+    public void onDelete(Post post) {
+        add(new PostStatistics(-1, post.isPublished() ? -1 : 0, post.isListed() ? -1 : 0));
+    }
+
+    private void add(PostStatistics delta) {
+        Utils.Tx.afterCommit(() -> apply(delta));
+    }
+
+    private synchronized void apply(PostStatistics delta) {
+        if (statistics != null) {
+            statistics = statistics.plus(delta);
+        }
+
+        if (pending != null) {
+            pending = pending.plus(delta);
+        }
+    }
+}
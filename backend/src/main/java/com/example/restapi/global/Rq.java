@@ -14,6 +14,7 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.context.annotation.RequestScope;
 
 import java.util.List;
@@ -50,11 +51,7 @@ public class Rq {
             throw new ServiceException("401-3", "잘못된 인증 정보입니다");
         }
 
-        return Member.builder()
-                .id(user.getId())
-                .username(user.getUsername())
-                .nickname(user.getNickname())
-                .build();
+        return user.toMember();
     }
         public String getHeader(String name) {
         return request.getHeader(name);
@@ -96,6 +93,14 @@ public class Rq {
         return memberService.findById(actor.getId()).get();
     }
 
+    // ETag 를 응답에 싣고, If-None-Match 와 같으면 304 로 표시한 뒤 true 를 반환한다. (이때 컨트롤러는 null 을 반환)
+    // 요청자에 따라 응답이 달라지면 공유 캐시에 저장되지 않도록 private 으로 내린다.
+    public boolean checkNotModified(String etag, boolean actorDependent) {
+        response.setHeader("Cache-Control", actorDependent ? "private, no-cache" : "public, no-cache");
+
+        return new ServletWebRequest(request, response).checkNotModified(etag);
+    }
+
     public void removeCookie(String name) {
         Cookie cookie = new Cookie(name, null);
         cookie.setDomain("localhost");
@@ -0,0 +1,28 @@
+package com.example.restapi.global.app;
+
+import com.example.restapi.global.security.CurrentActorArgumentResolver;
+import com.example.restapi.global.security.CurrentActor;
+import lombok.RequiredArgsConstructor;
+import org.springdoc.core.utils.SpringDocUtils;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+@Configuration
+@RequiredArgsConstructor
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    // @CurrentActor 파라미터는 요청 값이 아니므로 API 문서에서 뺀다.
+    static {
+        SpringDocUtils.getConfig().addAnnotationsToIgnore(CurrentActor.class);
+    }
+
+    private final CurrentActorArgumentResolver currentActorArgumentResolver;
+
+    @Override
+    public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+        resolvers.add(currentActorArgumentResolver);
+    }
+}
@@ -16,7 +16,10 @@ import lombok.experimental.SuperBuilder;
 public class BaseEntity {
 
     @Id // PRIMARY KEY
-    @GeneratedValue(strategy = GenerationType.IDENTITY) // AUTO_INCREMENT
+    // 엔티티별 시퀀스(<엔티티>_seq, MySQL 은 테이블로 흉내)에서 50개씩 미리 받아 쓰는 pooled 방식
+    // IDENTITY 와 달리 INSERT 전에 id 를 알 수 있어 INSERT 를 JDBC 배치로 묶을 수 있다.
+    // IDENTITY 시절에 만들어진 DB 는 시작할 때 IdSequenceAligner 가 시퀀스를 max(id) 위로 올린다.
+    @GeneratedValue(strategy = GenerationType.SEQUENCE)
     @Setter(AccessLevel.PRIVATE)
     @EqualsAndHashCode.Include
     private Long id; // long -> null X, Long -> null O
@@ -0,0 +1,78 @@
+package com.example.restapi.global.entity;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.id.enhanced.DatabaseStructure;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// IDENTITY 로 만들어진 기존 MySQL DB 를 SEQUENCE 로 옮길 때 필요한 시작 단계
+// ddl-auto update 는 <엔티티>_seq 테이블을 next_val = 1 로 새로 만들기 때문에, 이미 행이 있는 테이블에서는 새 id 가 기존 id 와 겹친다.
+// 모든 빈이 만들어진 직후(ApplicationRunner, 스케줄러가 INSERT 하기 전)에 각 시퀀스 테이블의 next_val 을 max(id) 위로 올린다.
+// 이미 올라가 있으면 아무것도 바꾸지 않으므로 매번 실행해도 되고, 여러 인스턴스가 동시에 떠도 UPDATE 한 번으로 끝난다.
+// 진짜 시퀀스를 쓰는 DB(H2 등)는 새로 만든 DB 에서만 쓰므로 건너뛴다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdSequenceAligner implements SmartInitializingSingleton {
+
+    // SequenceStyleGenerator 가 시퀀스 테이블에 쓰는 기본 컬럼 이름
+    private static final String VALUE_COLUMN = "next_val";
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final PlatformTransactionManager transactionManager;
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getMappingMetamodel()
+                .forEachEntityDescriptor(persister -> {
+                    if (!(persister.getGenerator() instanceof SequenceStyleGenerator generator)) return;
+                    if (!(persister instanceof AbstractEntityPersister entityPersister)) return;
+
+                    DatabaseStructure structure = generator.getDatabaseStructure();
+
+                    if (structure.isPhysicalSequence()) return;
+
+                    transactionTemplate.executeWithoutResult(_ -> align(
+                            entityPersister.getTableName(),
+                            entityPersister.getIdentifierColumnNames()[0],
+                            structure.getPhysicalName().render(),
+                            structure.getIncrementSize()
+                    ));
+                });
+    }
+
+    // pooled 방식은 읽은 next_val 에서 (incrementSize - 1) 을 뺀 값부터 쓰므로, max(id) + incrementSize 로 맞춰야 첫 id 가 max(id) + 1 이 된다.
+    private void align(String table, String idColumn, String sequenceTable, int incrementSize) {
+        long maxId = ((Number) em.createNativeQuery("select coalesce(max(%s), 0) from %s".formatted(idColumn, table))
+                .getSingleResult()).longValue();
+
+        if (maxId == 0) {
+            return;
+        }
+
+        long nextVal = maxId + incrementSize;
+
+        int updated = em.createNativeQuery("update %s set %s = :nextVal where %s < :nextVal".formatted(sequenceTable, VALUE_COLUMN, VALUE_COLUMN))
+                .setParameter("nextVal", nextVal)
+                .executeUpdate();
+
+        if (updated > 0) {
+            log.info("{} 의 {} 을 {} 로 올렸습니다. ({}.max(id) = {})", sequenceTable, VALUE_COLUMN, nextVal, table, maxId);
+        }
+    }
+}
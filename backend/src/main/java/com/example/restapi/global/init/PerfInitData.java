@@ -0,0 +1,261 @@
+package com.example.restapi.global.init;
+
+import com.example.restapi.domain.member.member.entity.Member;
+import com.example.restapi.domain.member.member.repository.MemberRepository;
+import com.example.restapi.domain.post.comment.entity.Comment;
+import com.example.restapi.domain.post.post.entity.Post;
+import com.example.restapi.domain.post.post.repository.PostCounterRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.annotation.Order;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 성능 테스트용 대량 데이터 생성 (perf 프로파일)
+// 예) ./gradlew bootRun --args='--spring.profiles.active=perf --custom.perf-data.posts=5000000 --custom.perf-data.threads=8'
+// 회원은 한 스레드에서, 글/댓글은 글 id 구간을 나눠 여러 스레드에서 넣는다.
+// 스레드마다 EntityManager 를 따로 열고, batch-size 건마다 flush/clear/commit 해서 INSERT 를 JDBC 배치로 보낸다.
+@Slf4j
+@Profile("perf")
+@Configuration
+@RequiredArgsConstructor
+public class PerfInitData {
+
+    private static final String USERNAME_PREFIX = "perf-user-";
+    private static final int MAX_TEXT_LENGTH = 255;
+
+    private static final String[] KO_WORDS = {
+            "오늘", "저녁", "같이", "축구", "농구", "모집", "합니다", "혹시", "아시는", "분", "계신가요", "주말에",
+            "스터디", "자바", "스프링", "질문", "있습니다", "추천", "부탁드려요", "맛집", "근처", "후기", "정말",
+            "좋았어요", "다음", "모임", "장소", "시간", "변경", "공지", "안내", "드립니다", "감사합니다", "여러분"
+    };
+
+    private static final String[] EN_WORDS = {
+            "today", "anyone", "want", "to", "join", "the", "weekend", "study", "group", "for", "spring", "boot",
+            "question", "about", "performance", "database", "index", "query", "slow", "help", "please", "review",
+            "thanks", "update", "meeting", "schedule", "changed", "notice", "great", "experience", "recommend"
+    };
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final MemberRepository memberRepository;
+    private final PostCounterRepository postCounterRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${custom.perf-data.members}")
+    private int memberCount;
+    @Value("${custom.perf-data.posts}")
+    private int postCount;
+    // 글당 평균 댓글 수. 실제 분포는 파레토 분포라 대부분의 글은 댓글이 적고 일부 글에 몰린다.
+    @Value("${custom.perf-data.comments-per-post}")
+    private double commentsPerPost;
+    @Value("${custom.perf-data.max-comments-per-post}")
+    private int maxCommentsPerPost;
+    @Value("${custom.perf-data.threads}")
+    private int threads;
+    @Value("${custom.perf-data.batch-size}")
+    private int batchSize;
+    @Value("${custom.perf-data.seed}")
+    private long seed;
+
+    @Bean
+    @Order
+    public ApplicationRunner perfApplicationRunner() {
+        return args -> generate();
+    }
+
+    public void generate() throws Exception {
+        if (memberRepository.findByUsername(USERNAME_PREFIX + 1).isPresent()) {
+            log.info("성능 테스트 데이터가 이미 있어서 생성을 건너뜁니다.");
+            return;
+        }
+
+        long start = System.nanoTime();
+
+        List<Author> authors = insertMembers();
+
+        AtomicLong insertedPosts = new AtomicLong();
+        AtomicLong insertedComments = new AtomicLong();
+        int postsPerThread = (postCount + threads - 1) / threads;
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            List<Future<?>> futures = new ArrayList<>();
+
+            for (int t = 0; t < threads; t++) {
+                int from = t * postsPerThread;
+                int to = Math.min(postCount, from + postsPerThread);
+                SplittableRandom random = new SplittableRandom(seed + t + 1);
+
+                futures.add(executor.submit(() -> {
+                    insertPosts(authors, to - from, random, insertedPosts, insertedComments);
+                    return null;
+                }));
+            }
+
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+
+        // 카운터는 지우면 다음 조회 때 COUNT 로 다시 만들어진다.
+        new TransactionTemplate(transactionManager).executeWithoutResult(_ -> postCounterRepository.deleteAllInBatch());
+
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        long rows = authors.size() + insertedPosts.get() + insertedComments.get();
+
+        log.info("성능 테스트 데이터 생성 완료 - 회원 {}, 글 {}, 댓글 {}, {}초, 초당 {}행",
+                authors.size(), insertedPosts.get(), insertedComments.get(), "%.1f".formatted(seconds), (long) (rows / seconds));
+    }
+
+    private record Author(long id, String nickname) {}
+
+    private List<Author> insertMembers() {
+        List<Author> authors = new ArrayList<>(memberCount);
+        SplittableRandom random = new SplittableRandom(seed);
+        EntityManager em = entityManagerFactory.createEntityManager();
+
+        try {
+            em.getTransaction().begin();
+
+            for (int i = 1; i <= memberCount; i++) {
+                String username = USERNAME_PREFIX + i;
+
+                // 회원 수만큼 bcrypt 를 돌리지 않도록 평문으로 넣는다. 처음 로그인할 때 해시로 바뀐다.
+                Member member = Member.builder()
+                        .username(username)
+                        .password(username + "1234")
+                        .apiKey(username)
+                        .nickname(random.nextInt(10) < 6 ? "회원" + i : "member" + i)
+                        .build();
+
+                em.persist(member);
+                authors.add(new Author(member.getId(), member.getNickname()));
+
+                if (i % batchSize == 0) {
+                    commitBatch(em);
+                }
+            }
+
+            em.getTransaction().commit();
+        } finally {
+            em.close();
+        }
+
+        return authors;
+    }
+
+    private void insertPosts(List<Author> authors, int count, SplittableRandom random, AtomicLong insertedPosts, AtomicLong insertedComments) {
+        EntityManager em = entityManagerFactory.createEntityManager();
+        int postsInBatch = 0;
+        int rowsInBatch = 0;
+
+        try {
+            em.getTransaction().begin();
+
+            for (int i = 0; i < count; i++) {
+                Author author = pickAuthor(authors, random);
+                boolean korean = random.nextInt(10) < 6;
+
+                Post post = Post.builder()
+                        .author(em.getReference(Member.class, author.id()))
+                        .authorName(author.nickname())
+                        .title(text(random, korean, 1.3, 0.5))
+                        .content(text(random, korean, 3.0, 0.9))
+                        .published(random.nextInt(10) != 0)
+                        .listed(random.nextInt(10) > 1)
+                        .build();
+
+                em.persist(post);
+                postsInBatch++;
+                rowsInBatch++;
+
+                int commentCount = commentCount(random);
+
+                for (int j = 0; j < commentCount; j++) {
+                    Author commentAuthor = pickAuthor(authors, random);
+
+                    em.persist(Comment.builder()
+                            .post(post)
+                            .author(em.getReference(Member.class, commentAuthor.id()))
+                            .authorName(commentAuthor.nickname())
+                            .content(text(random, random.nextInt(10) < 6, 2.0, 0.8))
+                            .build());
+                }
+
+                rowsInBatch += commentCount;
+
+                if (rowsInBatch >= batchSize) {
+                    commitBatch(em);
+                    insertedPosts.addAndGet(postsInBatch);
+                    insertedComments.addAndGet(rowsInBatch - postsInBatch);
+                    postsInBatch = 0;
+                    rowsInBatch = 0;
+                }
+            }
+
+            em.getTransaction().commit();
+            insertedPosts.addAndGet(postsInBatch);
+            insertedComments.addAndGet(rowsInBatch - postsInBatch);
+        } finally {
+            em.close();
+        }
+    }
+
+    private void commitBatch(EntityManager em) {
+        em.flush();
+        em.clear();
+        em.getTransaction().commit();
+        em.getTransaction().begin();
+    }
+
+    // 일부 회원이 글을 많이 쓰도록 앞쪽 회원에 치우치게 고른다.
+    private Author pickAuthor(List<Author> authors, SplittableRandom random) {
+        double u = random.nextDouble();
+
+        return authors.get((int) (authors.size() * u * u));
+    }
+
+    // 평균이 commentsPerPost 인 파레토(alpha=1.2) 분포, 최대 maxCommentsPerPost
+    private int commentCount(SplittableRandom random) {
+        double alpha = 1.2;
+        double scale = commentsPerPost * (alpha - 1);
+        double u = 1 - random.nextDouble();
+
+        return (int) Math.min(maxCommentsPerPost, Math.floor(scale / Math.pow(u, 1 / alpha) - scale));
+    }
+
+    // 단어 수가 로그 정규 분포를 따르는 문장. 컬럼 길이(255)를 넘지 않게 자른다.
+    private String text(SplittableRandom random, boolean korean, double mu, double sigma) {
+        String[] words = korean ? KO_WORDS : EN_WORDS;
+        int wordCount = Math.max(1, (int) Math.exp(mu + sigma * nextGaussian(random)));
+        StringBuilder sb = new StringBuilder();
+
+        for (int i = 0; i < wordCount && sb.length() < MAX_TEXT_LENGTH; i++) {
+            if (!sb.isEmpty()) {
+                sb.append(' ');
+            }
+
+            sb.append(words[random.nextInt(words.length)]);
+        }
+
+        return sb.length() > MAX_TEXT_LENGTH ? sb.substring(0, MAX_TEXT_LENGTH) : sb.toString();
+    }
+
+    private double nextGaussian(SplittableRandom random) {
+        return Math.sqrt(-2 * Math.log(1 - random.nextDouble())) * Math.cos(2 * Math.PI * random.nextDouble());
+    }
+}
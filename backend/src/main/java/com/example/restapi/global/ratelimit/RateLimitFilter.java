@@ -0,0 +1,100 @@
+package com.example.restapi.global.ratelimit;
+
+import com.example.restapi.global.dto.RsData;
+import com.example.restapi.global.security.CustomAuthenticationFilter;
+import com.example.restapi.global.security.SecurityUser;
+import com.example.restapi.standard.util.Utils;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+// 요청 수 제한. 보안 필터 체인에 두 번 들어간다. (SecurityConfig)
+// - CLIENT: 인증 필터 앞에서 IP 와 apiKey 기준으로 확인한다. (apiKey 로 토큰을 다시 발급하는 DB 조회 전에 끊는다.)
+// - MEMBER: 인증 필터 뒤에서 로그인한 회원 id 기준으로 확인한다.
+// 넘치면 컨트롤러와 트랜잭션에 닿기 전에 429 를 RsData 로 응답한다.
+@RequiredArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    public enum Stage {
+        CLIENT, MEMBER
+    }
+
+    private static final String ROUTE_ATTRIBUTE = RateLimitFilter.class.getName() + ".route";
+
+    private final RateLimiter rateLimiter;
+    private final Stage stage;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        long retryAfterNanos = switch (stage) {
+            case CLIENT -> acquireClient(request);
+            case MEMBER -> acquireMember(request);
+        };
+
+        if (retryAfterNanos > 0) {
+            reject(response, retryAfterNanos);
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private long acquireClient(HttpServletRequest request) {
+        RateLimiter.Route route = rateLimiter.route(request);
+
+        if (route == null) {
+            return 0;
+        }
+
+        request.setAttribute(ROUTE_ATTRIBUTE, route);
+
+        long retryAfterNanos = rateLimiter.acquire(route, RateLimiter.Dimension.IP, request.getRemoteAddr());
+
+        if (retryAfterNanos > 0) {
+            return retryAfterNanos;
+        }
+
+        CustomAuthenticationFilter.AuthToken authToken = CustomAuthenticationFilter.getAuthTokenFromRequest(request);
+
+        return authToken == null ? 0 : rateLimiter.acquire(route, RateLimiter.Dimension.API_KEY, authToken.apiKey());
+    }
+
+    private long acquireMember(HttpServletRequest request) {
+        if (!(request.getAttribute(ROUTE_ATTRIBUTE) instanceof RateLimiter.Route route)) {
+            return 0;
+        }
+
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+
+        if (auth == null || !(auth.getPrincipal() instanceof SecurityUser user)) {
+            return 0;
+        }
+
+        return rateLimiter.acquire(route, RateLimiter.Dimension.MEMBER, String.valueOf(user.getId()));
+    }
+
+    private void reject(HttpServletResponse response, long retryAfterNanos) throws IOException {
+        response.setStatus(429);
+        response.setHeader("Retry-After", String.valueOf(Math.max(1, TimeUnit.NANOSECONDS.toSeconds(retryAfterNanos + 999_999_999))));
+        response.setContentType("application/json;charset=utf-8");
+        response.getWriter().write(
+                Utils.Json.toString(
+                        new RsData<>("429-1", "요청이 너무 많습니다. 잠시 후 다시 시도해 주세요.")
+                )
+        );
+    }
+
+    // 같은 클래스의 필터가 두 단계로 들어가므로 단계마다 "이미 실행함" 표시를 따로 둔다.
+    @Override
+    protected String getAlreadyFilteredAttributeName() {
+        return super.getAlreadyFilteredAttributeName() + "." + stage.name();
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.restapi.global.ratelimit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.List;
+
+// custom.rate-limit 설정. 경로 그룹은 위에서부터 처음 일치하는 하나만 적용한다.
+@ConfigurationProperties("custom.rate-limit")
+public record RateLimitProperties(
+        boolean enabled,
+        long maxKeys,
+        Duration evictInterval,
+        List<Group> groups
+) {
+
+    // methods 가 비어 있으면 모든 메서드, requiredParams 가 있으면 그 파라미터가 모두 비어 있지 않을 때만 일치
+    public record Group(
+            String name,
+            List<String> methods,
+            List<String> patterns,
+            List<String> requiredParams,
+            Limit perIp,
+            Limit perApiKey,
+            Limit perMember
+    ) {}
+
+    // period 동안 rate 번, 한꺼번에는 최대 burst 번
+    public record Limit(int rate, Duration period, int burst) {}
+}
@@ -0,0 +1,183 @@
+package com.example.restapi.global.ratelimit;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.server.PathContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// GCRA(Generic Cell Rate Algorithm) 방식의 토큰 버킷. 키마다 "다음 요청이 허용되는 이론상 시각(TAT)" 하나만 AtomicLong 에 두고 CAS 로 갱신한다.
+// - 요청마다 TAT 를 emission interval(period / rate) 만큼 미루고, TAT 가 지금보다 burst 칸 넘게 앞서면 거절한다.
+// - TAT 가 지난 버킷은 가득 찬 새 버킷과 같으므로 지워도 잃는 정보가 없다. (evict)
+// - 키 수가 max-keys 에 닿으면 evict 로 자리가 날 때까지 새 키는 (경로 그룹, 기준)마다 하나인 공유 버킷을 같이 쓴다.
+//   키를 계속 바꿔 가며 보내는 요청도 공유 버킷의 한도에 묶이므로, 메모리를 지키면서 제한도 풀리지 않는다.
+@Slf4j
+@Component
+public class RateLimiter {
+
+    public enum Dimension {
+        IP, API_KEY, MEMBER
+    }
+
+    // 설정의 경로 그룹을 미리 파싱해 둔 것
+    public static class Route {
+        private final int index;
+        private final String name;
+        private final List<String> methods;
+        private final List<PathPattern> patterns;
+        private final List<String> requiredParams;
+        private final Limit[] limits = new Limit[Dimension.values().length];
+
+        private Route(int index, RateLimitProperties.Group group) {
+            this.index = index;
+            this.name = group.name();
+            this.methods = group.methods() == null ? List.of() : group.methods().stream().map(method -> method.toUpperCase(Locale.ROOT)).toList();
+            this.patterns = group.patterns().stream().map(PathPatternParser.defaultInstance::parse).toList();
+            this.requiredParams = group.requiredParams() == null ? List.of() : group.requiredParams();
+            this.limits[Dimension.IP.ordinal()] = Limit.of(group.perIp());
+            this.limits[Dimension.API_KEY.ordinal()] = Limit.of(group.perApiKey());
+            this.limits[Dimension.MEMBER.ordinal()] = Limit.of(group.perMember());
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        private boolean matches(HttpServletRequest request, PathContainer path) {
+            if (!methods.isEmpty() && !methods.contains(request.getMethod())) {
+                return false;
+            }
+
+            for (String param : requiredParams) {
+                String value = request.getParameter(param);
+
+                if (value == null || value.isBlank()) {
+                    return false;
+                }
+            }
+
+            for (PathPattern pattern : patterns) {
+                if (pattern.matches(path)) {
+                    return true;
+                }
+            }
+
+            return false;
+        }
+    }
+
+    private record Limit(long emissionInterval, long burstTolerance) {
+        static Limit of(RateLimitProperties.Limit limit) {
+            if (limit == null) {
+                return null;
+            }
+
+            long emissionInterval = limit.period().toNanos() / limit.rate();
+
+            return new Limit(emissionInterval, emissionInterval * Math.max(1, limit.burst()));
+        }
+    }
+
+    private record BucketKey(int route, Dimension dimension, String id) {}
+
+    private final boolean enabled;
+    private final long maxKeys;
+    private final List<Route> routes = new ArrayList<>();
+    private final Map<BucketKey, AtomicLong> buckets = new ConcurrentHashMap<>();
+    // [경로 그룹 index * 기준 수 + 기준 ordinal] 마다 하나씩
+    private final AtomicLong[] overflowBuckets;
+
+    public RateLimiter(RateLimitProperties properties) {
+        this.enabled = properties.enabled();
+        this.maxKeys = properties.maxKeys();
+
+        if (properties.groups() != null) {
+            for (RateLimitProperties.Group group : properties.groups()) {
+                routes.add(new Route(routes.size(), group));
+            }
+        }
+
+        this.overflowBuckets = new AtomicLong[routes.size() * Dimension.values().length];
+
+        for (int i = 0; i < overflowBuckets.length; i++) {
+            overflowBuckets[i] = new AtomicLong(System.nanoTime());
+        }
+    }
+
+    // 요청에 적용할 경로 그룹. 없거나 꺼져 있으면 null
+    public Route route(HttpServletRequest request) {
+        if (!enabled || routes.isEmpty()) {
+            return null;
+        }
+
+        PathContainer path = PathContainer.parsePath(request.getRequestURI());
+
+        for (Route route : routes) {
+            if (route.matches(request, path)) {
+                return route;
+            }
+        }
+
+        return null;
+    }
+
+    // 허용되면 0, 거절되면 다시 시도할 수 있을 때까지 남은 나노초
+    public long acquire(Route route, Dimension dimension, String id) {
+        Limit limit = route.limits[dimension.ordinal()];
+
+        if (limit == null || id == null) {
+            return 0;
+        }
+
+        AtomicLong tat = bucket(new BucketKey(route.index, dimension, id));
+        long now = System.nanoTime();
+
+        while (true) {
+            long current = tat.get();
+            long next = Math.max(current, now) + limit.emissionInterval();
+            long excess = next - now - limit.burstTolerance();
+
+            if (excess > 0) {
+                return excess;
+            }
+
+            if (tat.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    private AtomicLong bucket(BucketKey key) {
+        AtomicLong tat = buckets.get(key);
+
+        if (tat != null) {
+            return tat;
+        }
+
+        if (buckets.size() >= maxKeys) {
+            return overflowBuckets[key.route() * Dimension.values().length + key.dimension().ordinal()];
+        }
+
+        return buckets.computeIfAbsent(key, _ -> new AtomicLong(System.nanoTime()));
+    }
+
+    @Scheduled(fixedDelayString = "${custom.rate-limit.evict-interval}")
+    public void evict() {
+        long now = System.nanoTime();
+
+        buckets.values().removeIf(tat -> tat.get() - now <= 0);
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.restapi.global.security;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// 컨트롤러 파라미터에 현재 로그인한 회원(Member)을 넣는다. (CurrentActorArgumentResolver)
+// 로그인하지 않았으면 Rq.getCurrentActor 와 같이 401 로 응답한다.
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CurrentActor {
+}
@@ -0,0 +1,40 @@
+package com.example.restapi.global.security;
+
+import com.example.restapi.domain.member.member.entity.Member;
+import com.example.restapi.global.exception.ServiceException;
+import org.springframework.core.MethodParameter;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+// @CurrentActor Member 파라미터를 SecurityContext 의 SecurityUser 로 채운다.
+// 요청 스코프 프록시(Rq)를 거치지 않고 바로 꺼낸다.
+@Component
+public class CurrentActorArgumentResolver implements HandlerMethodArgumentResolver {
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.hasParameterAnnotation(CurrentActor.class)
+                && Member.class.isAssignableFrom(parameter.getParameterType());
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer, NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+
+        if (auth != null && auth.getPrincipal() instanceof SecurityUser user) {
+            return user.toMember();
+        }
+
+        // Rq.getCurrentActor 와 같은 오류 코드를 쓴다. (익명 사용자는 401-3)
+        if (auth == null) {
+            throw new ServiceException("401-2", "로그인이 필요합니다.");
+        }
+
+        throw new ServiceException("401-3", "잘못된 인증 정보입니다");
+    }
+}
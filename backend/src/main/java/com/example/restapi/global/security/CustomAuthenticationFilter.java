@@ -1,57 +1,97 @@
 package com.example.restapi.global.security;
 
+import com.example.restapi.domain.member.member.dto.RefreshedAccessToken;
 import com.example.restapi.domain.member.member.entity.Member;
 import com.example.restapi.domain.member.member.service.MemberService;
+import com.example.restapi.domain.member.revocation.service.RevocationService;
 import com.example.restapi.global.Rq;
+import com.example.restapi.standard.util.Utils;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.List;
 import java.util.Optional;
 
+// 모든 요청이 지나가므로 요청 헤더/쿠키는 HttpServletRequest 에서 바로 읽고, 문자열 분할이나 임시 리스트를 만들지 않는다.
 @Component
 @RequiredArgsConstructor
 public class CustomAuthenticationFilter extends OncePerRequestFilter {
 
+    private static final String BEARER_PREFIX = "Bearer ";
+    private static final String API_PREFIX = "/api/";
+
+    // /api/{버전}/members/... 중 인증이 필요 없는 경로
+    private static final String[] EXCLUDED_SUFFIXES = {"/members/login", "/members/join", "/members/logout"};
+
     private final Rq rq;
     private final MemberService memberService;
+    private final RevocationService revocationService;
 
-    private boolean isAuthorizationHeader() {
-        String authorizationHeader = rq.getHeader("Authorization");
+    public record AuthToken(String apiKey, String accessToken) {}
 
-        if (authorizationHeader == null) {
+    static boolean isExcluded(String uri) {
+        if (!uri.startsWith(API_PREFIX)) {
             return false;
         }
 
-        return authorizationHeader.startsWith("Bearer ");
-    }
+        int versionEnd = uri.indexOf('/', API_PREFIX.length());
 
-    record AuthToken(String apiKey, String accessToken) {}
+        if (versionEnd < 0) {
+            return false;
+        }
 
-    private AuthToken getAuthTokenFromRequest() {
-        if (isAuthorizationHeader()) {
+        for (String suffix : EXCLUDED_SUFFIXES) {
+            if (uri.length() - versionEnd == suffix.length() && uri.startsWith(suffix, versionEnd)) {
+                return true;
+            }
+        }
 
-            String authorizationHeader = rq.getHeader("Authorization");
-            String authToken = authorizationHeader.substring("Bearer ".length());
+        return false;
+    }
 
-            String[] tokenBits = authToken.split(" ", 2);
+    public static AuthToken getAuthTokenFromRequest(HttpServletRequest request) {
+        String authorizationHeader = request.getHeader("Authorization");
 
-            if (tokenBits.length < 2) {
+        if (authorizationHeader != null && authorizationHeader.startsWith(BEARER_PREFIX)) {
+            int separator = authorizationHeader.indexOf(' ', BEARER_PREFIX.length());
+
+            if (separator < 0) {
                 return null;
             }
 
-            return new AuthToken(tokenBits[0], tokenBits[1]);
+            return new AuthToken(
+                    authorizationHeader.substring(BEARER_PREFIX.length(), separator),
+                    authorizationHeader.substring(separator + 1)
+            );
         }
 
-        String accessToken = rq.getValueFromCookie("accessToken");
-        String apiKey = rq.getValueFromCookie("apiKey");
+        Cookie[] cookies = request.getCookies();
+
+        if (cookies == null) {
+            return null;
+        }
+
+        // 쿠키 배열을 한 번만 돈다. 같은 이름이 여러 번 오면 처음 것을 쓴다.
+        String apiKey = null;
+        String accessToken = null;
+
+        for (Cookie cookie : cookies) {
+            String name = cookie.getName();
+
+            if (apiKey == null && name.equals("apiKey")) {
+                apiKey = cookie.getValue();
+            } else if (accessToken == null && name.equals("accessToken")) {
+                accessToken = cookie.getValue();
+            }
+        }
 
         if (accessToken == null || apiKey == null) {
             return null;
@@ -60,51 +100,70 @@ public class CustomAuthenticationFilter extends OncePerRequestFilter {
         return new AuthToken(apiKey, accessToken);
     }
 
+    // 폐기된 apiKey 나 액세스 토큰이면 인증하지 않는다.
+    // 폐기된 액세스 토큰을 만료된 토큰처럼 보고 apiKey 로 다시 발급하면 로그아웃이 의미가 없어진다.
+    // 액세스 토큰의 SHA-256 은 폐기 확인과 검증 캐시에 같이 쓰므로 한 번만 계산한다.
     private Member getMemberByAccessToken(String accessToken, String apiKey) {
-        Optional<Member> opAccMember = memberService.getMemberByAccessToken(accessToken);
+        if (revocationService.isApiKeyRevoked(apiKey)) {
+            return null;
+        }
+
+        String accessTokenDigest = Utils.Hash.sha256(accessToken);
+
+        if (revocationService.isAccessTokenDigestRevoked(accessTokenDigest)) {
+            return null;
+        }
+
+        Optional<Member> opAccMember = memberService.getMemberByAccessToken(accessToken, accessTokenDigest);
 
         if (opAccMember.isPresent()) {
             return opAccMember.get();
         }
 
-        Optional<Member> opRefMember = memberService.findByApiKey(apiKey);
+        Optional<RefreshedAccessToken> opRefreshed = memberService.refreshAccessToken(apiKey);
 
-        if(opRefMember.isEmpty()) {
+        if(opRefreshed.isEmpty()) {
             return null;
         }
 
-        String newAccessToken = memberService.genAccessToken(opRefMember.get());
-        rq.addCookie("accessToken", newAccessToken);
+        RefreshedAccessToken refreshed = opRefreshed.get();
+        rq.addCookie("accessToken", refreshed.accessToken());
         rq.addCookie("apiKey", apiKey);
 
-        return opRefMember.get();
+        return refreshed.toMember();
     }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
-        String url = request.getRequestURI();
-
-        if(List.of("/api/v1/members/login", "/api/v1/members/join", "/api/*/members/logout").contains(url)) {
+        if (isExcluded(request.getRequestURI())) {
             filterChain.doFilter(request, response);
             return;
         }
 
-        AuthToken tokens = getAuthTokenFromRequest();
+        AuthToken tokens = getAuthTokenFromRequest(request);
 
         if (tokens == null) {
             filterChain.doFilter(request, response);
             return;
         }
 
-        String apiKey = tokens.apiKey;
-        String accessToken = tokens.accessToken;
+        Member actor = getMemberByAccessToken(tokens.accessToken(), tokens.apiKey());
 
-        Member actor = getMemberByAccessToken(accessToken, apiKey);
         if (actor == null) {
             filterChain.doFilter(request, response);
             return;
         }
-        rq.setLogin(actor);
+
+        setLogin(actor);
         filterChain.doFilter(request, response);
     }
-}
\ No newline at end of file
+
+    // Rq.setLogin 과 같지만 요청 스코프 프록시를 거치지 않는다.
+    private void setLogin(Member actor) {
+        SecurityUser user = new SecurityUser(actor.getId(), actor.getUsername(), "", actor.getNickname(), actor.getAuthorities());
+
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities())
+        );
+    }
+}
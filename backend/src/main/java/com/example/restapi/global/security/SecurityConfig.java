@@ -2,8 +2,13 @@ package com.example.restapi.global.security;
 
 import com.example.restapi.global.app.AppConfig;
 import com.example.restapi.global.dto.RsData;
+import com.example.restapi.global.ratelimit.RateLimitFilter;
+import com.example.restapi.global.ratelimit.RateLimitProperties;
+import com.example.restapi.global.ratelimit.RateLimiter;
 import com.example.restapi.standard.util.Utils;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -21,17 +26,25 @@ import java.util.List;
 
 @Configuration
 @EnableWebSecurity
+@EnableConfigurationProperties(RateLimitProperties.class)
 @RequiredArgsConstructor
 public class SecurityConfig {
 
     private final CustomAuthenticationFilter customAuthenticationFilter;
+    private final RateLimiter rateLimiter;
 
     @Bean
     SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         http
                 .addFilterBefore(customAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+                // 요청 수 제한. 경로 그룹(custom.rate-limit.groups)은 아래 인가 규칙과 같은 단위로 나눈다.
+                .addFilterBefore(new RateLimitFilter(rateLimiter, RateLimitFilter.Stage.CLIENT), CustomAuthenticationFilter.class)
+                .addFilterAfter(new RateLimitFilter(rateLimiter, RateLimitFilter.Stage.MEMBER), CustomAuthenticationFilter.class)
                 .authorizeHttpRequests((authorizeHttpRequests) ->
                         authorizeHttpRequests
+                                // 스트리밍 응답의 비동기 디스패치는 최초 요청에서 이미 인가됨
+                                .dispatcherTypeMatchers(DispatcherType.ASYNC)
+                                .permitAll()
                                 .requestMatchers("/h2-console/**")
                                 .permitAll()
                                 .requestMatchers(HttpMethod.GET, "/api/*/posts", "/api/*/posts/{id:\\d+}", "/api/*/posts/{postId:\\d+}/comments")
@@ -40,6 +53,12 @@ public class SecurityConfig {
                                 .permitAll()
                                 .requestMatchers("/api/*/posts/statistics")
                                 .hasRole("ADMIN")
+                                .requestMatchers("/api/*/adm/**")
+                                .hasRole("ADMIN")
+                                .requestMatchers("/actuator/health")
+                                .permitAll()
+                                .requestMatchers("/actuator/**")
+                                .hasRole("ADMIN")
                                 .requestMatchers("/api/*/**")
                                 .authenticated()
                                 .anyRequest()
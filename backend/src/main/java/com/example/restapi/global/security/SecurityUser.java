@@ -1,19 +1,35 @@
 package com.example.restapi.global.security;
 
+import com.example.restapi.domain.member.member.entity.Member;
 import lombok.Getter;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
 
 import java.util.Collection;
 
+// User 를 상속하면 생성할 때마다 권한을 정렬된 Set 으로 복사하므로, 필요한 값만 담아 UserDetails 를 직접 구현한다.
+// 권한 목록은 Member 가 돌려주는 불변 상수를 그대로 쓴다.
 @Getter
-public class SecurityUser extends User {
+public class SecurityUser implements UserDetails {
     private final long id;
+    private final String username;
+    private final String password;
     private final String nickname;
+    private final Collection<? extends GrantedAuthority> authorities;
 
     public SecurityUser(long id, String username, String password, String nickname, Collection<? extends GrantedAuthority> authorities) {
-        super(username, password, authorities);
         this.id = id;
+        this.username = username;
+        this.password = password;
         this.nickname = nickname;
+        this.authorities = authorities;
     }
-}
\ No newline at end of file
+
+    public Member toMember() {
+        return Member.builder()
+                .id(id)
+                .username(username)
+                .nickname(nickname)
+                .build();
+    }
+}
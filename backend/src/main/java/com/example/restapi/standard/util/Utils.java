@@ -3,12 +3,29 @@ package com.example.restapi.standard.util;
 import com.example.restapi.global.app.AppConfig;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.Base64;
 import java.util.Date;
+import java.util.HashSet;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
 
 public class Utils {
     public static class Json {
@@ -23,41 +40,200 @@ public class Utils {
         }
     }
     public static class Jwt {
+        // 키 문자열마다 한 번만 만든 Codec 을 재사용한다.
+        private static final Map<String, Codec> codecs = new ConcurrentHashMap<>();
+
+        public static Codec codec(String keyString) {
+            return codecs.computeIfAbsent(keyString, Codec::new);
+        }
+
         public static String createToken(String keyString, int expireSeconds, Map<String, Object> claims) {
-            SecretKey secretKey = Keys.hmacShaKeyFor(keyString.getBytes());
-            Date issuedAt = new Date();
-            Date expiration = new Date(issuedAt.getTime() + 1000L * expireSeconds);
-            return Jwts.builder()
-                    .claims(claims)
-                    .issuedAt(issuedAt)
-                    .expiration(expiration)
-                    .signWith(secretKey) // SignatureAlgorithm.HS256
-                    .compact();
+            return codec(keyString).createToken(expireSeconds, claims);
         }
 
         public static boolean isTokenValid(String keyString, String token) {
-            try {
-                SecretKey secretKey = Keys.hmacShaKeyFor(keyString.getBytes());
+            return codec(keyString).verify(token) != null;
+        }
+
+        public static Map<String, Object> getPayload(String keyString, String jwtStr) {
+            return codec(keyString).parse(jwtStr);
+        }
 
-                Jwts
-                        .parser()
+        // 키와 파서를 미리 만들어 두는 서명/검증기. 파서는 불변이라 여러 스레드가 같이 써도 된다.
+        public static class Codec {
+            private final SecretKey secretKey;
+            private final JwtParser parser;
+
+            public Codec(String keyString) {
+                this.secretKey = Keys.hmacShaKeyFor(keyString.getBytes(StandardCharsets.UTF_8));
+                this.parser = Jwts.parser()
                         .verifyWith(secretKey)
-                        .build()
-                        .parse(token);
-            }catch (Exception e) {
-                return false;
+                        .build();
+            }
+
+            public String createToken(int expireSeconds, Map<String, Object> claims) {
+                Date issuedAt = new Date();
+                Date expiration = new Date(issuedAt.getTime() + 1000L * expireSeconds);
+                return Jwts.builder()
+                        .claims(claims)
+                        .issuedAt(issuedAt)
+                        .expiration(expiration)
+                        .signWith(secretKey) // SignatureAlgorithm.HS256
+                        .compact();
+            }
+
+            // 한 번의 파싱으로 서명과 만료를 함께 검증한다. 실패하면 예외
+            public Claims parse(String token) {
+                return parser.parseSignedClaims(token).getPayload();
             }
+
+            // 실패하면 null
+            public Claims verify(String token) {
+                try {
+                    return parse(token);
+                } catch (JwtException | IllegalArgumentException e) {
+                    return null;
+                }
+            }
+        }
+    }
+
+    public static class Ngram {
+        // 한글은 띄어쓰기 단위 형태소 분석 없이도 n-gram 으로 부분 일치 검색이 가능하다.
+        public static String normalize(String text) {
+            if (text == null) {
+                return "";
+            }
+
+            return Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+        }
+
+        public static Set<String> tokenize(String text, int n) {
+            String normalized = normalize(text);
+            Set<String> grams = new HashSet<>();
+
+            for (int i = 0; i + n <= normalized.length(); i++) {
+                grams.add(normalized.substring(i, i + n));
+            }
+
+            return grams;
+        }
+    }
+
+    public static class Tx {
+        // 트랜잭션 안이면 커밋 이후에, 밖이면 즉시 실행
+        public static void afterCommit(Runnable task) {
+            if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+                task.run();
+                return;
+            }
+
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+        }
+    }
+
+    public static class Etag {
+        // 값들을 이어 붙여 해시한 강한 ETag ("..." 형태)
+        public static String of(Object... parts) {
+            StringBuilder sb = new StringBuilder();
+
+            for (Object part : parts) {
+                sb.append(part).append('|');
+            }
+
+            try {
+                byte[] hash = MessageDigest.getInstance("SHA-256").digest(sb.toString().getBytes(StandardCharsets.UTF_8));
+
+                return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(hash, 16)) + "\"";
+            } catch (NoSuchAlgorithmException e) {
+                throw new RuntimeException(e);
+            }
+        }
+    }
+
+    public static class Hash {
+        // SHA-256 을 base64url(패딩 없음)로. 토큰처럼 원문을 저장하면 안 되는 값의 키로 쓴다.
+        public static String sha256(String value) {
+            try {
+                byte[] hash = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+
+                return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+            } catch (NoSuchAlgorithmException e) {
+                throw new RuntimeException(e);
+            }
+        }
+    }
+
+    // 추가만 가능한 블룸 필터. 없다고 답하면 확실히 없고, 있다고 답하면 정확한 집합을 다시 확인해야 한다.
+    // 비트 배열을 AtomicLongArray 로 두어 잠금 없이 여러 스레드가 읽고 쓸 수 있다.
+    public static class BloomFilter {
+        private final AtomicLongArray words;
+        private final long bitCount;
+        private final int hashCount;
+
+        public BloomFilter(long expectedInsertions, double falsePositiveRate) {
+            long n = Math.max(1, expectedInsertions);
+            long bits = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+
+            this.words = new AtomicLongArray((int) ((Math.max(64, bits) + 63) / 64));
+            this.bitCount = words.length() * 64L;
+            this.hashCount = Math.max(1, (int) Math.round((double) bitCount / n * Math.log(2)));
+        }
+
+        public void add(String key) {
+            long hash = hash64(key);
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+
+            for (int i = 1; i <= hashCount; i++) {
+                long bit = Integer.toUnsignedLong(h1 + i * h2) % bitCount;
+                int index = (int) (bit >>> 6);
+                long mask = 1L << bit;
+
+                long word;
+                while (((word = words.get(index)) & mask) == 0 && !words.compareAndSet(index, word, word | mask)) {
+                    // 다른 스레드가 같은 word 를 바꿨다면 다시 시도
+                }
+            }
+        }
+
+        public boolean mightContain(String key) {
+            long hash = hash64(key);
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+
+            for (int i = 1; i <= hashCount; i++) {
+                long bit = Integer.toUnsignedLong(h1 + i * h2) % bitCount;
+
+                if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+
             return true;
         }
 
-        public static Map<String, Object> getPayload(String keyString, String jwtStr) {
-            SecretKey secretKey = Keys.hmacShaKeyFor(keyString.getBytes());
-            return (Map<String, Object>) Jwts
-                    .parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parse(jwtStr)
-                    .getPayload();
+        // FNV-1a 뒤에 splitmix64 로 섞는다.
+        private static long hash64(String key) {
+            long h = 0xcbf29ce484222325L;
+
+            for (int i = 0; i < key.length(); i++) {
+                h ^= key.charAt(i);
+                h *= 0x100000001b3L;
+            }
+
+            h ^= h >>> 30;
+            h *= 0xbf58476d1ce4e5b9L;
+            h ^= h >>> 27;
+            h *= 0x94d049bb133111ebL;
+            h ^= h >>> 31;
+
+            return h;
         }
     }
 }
@@ -0,0 +1,93 @@
+package com.example.restapi;
+
+import com.example.restapi.domain.post.activity.controller.ApiV1AdmActivityController;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithUserDetails;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+@Transactional
+public class ApiV1AdmActivityControllerTest {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Test
+    @DisplayName("활동 통계 - 시간 단위, 하루면 24개 버킷")
+    @WithUserDetails("admin")
+    void itemsHour() throws Exception {
+        LocalDate today = LocalDate.now();
+
+        mvc.perform(get("/api/v1/adm/activity")
+                        .param("from", today.toString())
+                        .param("to", today.toString())
+                        .param("granularity", "HOUR"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(handler().handlerType(ApiV1AdmActivityController.class))
+                .andExpect(handler().methodName("getItems"))
+                .andExpect(jsonPath("$.code").value("200-1"))
+                .andExpect(jsonPath("$.msg").value("활동 통계 조회가 완료되었습니다."))
+                .andExpect(jsonPath("$.data.length()").value(24))
+                .andExpect(jsonPath("$.data[0].bucketStart").value(today.atStartOfDay().toString() + ":00"))
+                .andExpect(jsonPath("$.data[0].postCount").isNumber())
+                .andExpect(jsonPath("$.data[0].publishedPostCount").isNumber())
+                .andExpect(jsonPath("$.data[0].listedPostCount").isNumber())
+                .andExpect(jsonPath("$.data[0].commentCount").isNumber());
+    }
+
+    @Test
+    @DisplayName("활동 통계 - 일 단위")
+    @WithUserDetails("admin")
+    void itemsDay() throws Exception {
+        LocalDate today = LocalDate.now();
+
+        mvc.perform(get("/api/v1/adm/activity")
+                        .param("from", today.minusDays(6).toString())
+                        .param("to", today.toString()))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.code").value("200-1"))
+                .andExpect(jsonPath("$.data.length()").value(7));
+    }
+
+    @Test
+    @DisplayName("활동 통계 - 잘못된 기간이면 400")
+    @WithUserDetails("admin")
+    void itemsInvalidRange() throws Exception {
+        LocalDate today = LocalDate.now();
+
+        mvc.perform(get("/api/v1/adm/activity")
+                        .param("from", today.toString())
+                        .param("to", today.minusDays(1).toString()))
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("400-1"))
+                .andExpect(jsonPath("$.msg").value("조회 기간은 1일 이상 1830일 이하여야 합니다."));
+    }
+
+    @Test
+    @DisplayName("활동 통계 - 관리자가 아니면 403")
+    @WithUserDetails("user1")
+    void itemsUser() throws Exception {
+        mvc.perform(get("/api/v1/adm/activity")
+                        .param("from", LocalDate.now().toString())
+                        .param("to", LocalDate.now().toString()))
+                .andExpect(status().isForbidden())
+                .andExpect(jsonPath("$.code").value("403-1"));
+    }
+}
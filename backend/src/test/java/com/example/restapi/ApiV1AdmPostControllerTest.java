@@ -0,0 +1,207 @@
+package com.example.restapi;
+
+import com.example.restapi.domain.post.comment.entity.Comment;
+import com.example.restapi.domain.post.comment.repository.CommentRepository;
+import com.example.restapi.domain.post.post.controller.ApiV1AdmPostController;
+import com.example.restapi.domain.post.post.entity.Post;
+import com.example.restapi.domain.post.post.service.PostService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithUserDetails;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.startsWith;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+// 내보내기는 별도 스레드에서 커밋된 데이터를 읽으므로 클래스에는 @Transactional 을 붙이지 않는다.
+@SpringBootTest
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+public class ApiV1AdmPostControllerTest {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private List<JsonNode> exportRequest(long afterId) throws Exception {
+        MvcResult mvcResult = mvc.perform(get("/api/v1/adm/posts/export")
+                        .param("afterId", String.valueOf(afterId)))
+                .andExpect(handler().handlerType(ApiV1AdmPostController.class))
+                .andExpect(handler().methodName("export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("application/x-ndjson"))
+                .andReturn()
+                .getResponse()
+                .getContentAsString(StandardCharsets.UTF_8);
+
+        List<JsonNode> lines = new ArrayList<>();
+
+        for (String line : body.split("\n")) {
+            if (!line.isBlank()) {
+                lines.add(objectMapper.readTree(line));
+            }
+        }
+
+        return lines;
+    }
+
+    @Test
+    @DisplayName("글 내보내기 - 모든 글을 id 순서로, 댓글과 함께")
+    @WithUserDetails("admin")
+    void export() throws Exception {
+        List<JsonNode> lines = exportRequest(0);
+
+        assertThat(lines).hasSize((int) postService.count());
+        assertThat(lines)
+                .extracting(line -> line.get("id").asLong())
+                .isSorted();
+
+        JsonNode first = lines.getFirst();
+        long post1Id = first.get("id").asLong();
+        Post post1 = postService.getItem(post1Id).get();
+        List<Comment> post1Comments = commentRepository.findByPostIdIn(List.of(post1Id));
+
+        assertThat(first.get("title").asText()).isEqualTo(post1.getTitle());
+        assertThat(first.get("content").asText()).isEqualTo(post1.getContent());
+        assertThat(first.get("authorName").asText()).isEqualTo(post1.getAuthorName());
+        assertThat(first.get("comments")).hasSize(post1Comments.size());
+    }
+
+    @Test
+    @DisplayName("글 내보내기 - afterId 이후부터 이어받기")
+    @WithUserDetails("admin")
+    void exportAfterId() throws Exception {
+        List<JsonNode> all = exportRequest(0);
+        long watermark = all.get(9).get("id").asLong();
+
+        List<JsonNode> rest = exportRequest(watermark);
+
+        assertThat(rest).hasSize(all.size() - 10);
+        assertThat(rest.getFirst().get("id").asLong()).isEqualTo(all.get(10).get("id").asLong());
+    }
+
+    @Test
+    @DisplayName("글 내보내기 - 관리자가 아니면 403")
+    @WithUserDetails("user1")
+    void exportUser() throws Exception {
+        mvc.perform(get("/api/v1/adm/posts/export"))
+                .andExpect(status().isForbidden())
+                .andExpect(jsonPath("$.code").value("403-1"));
+    }
+
+    @Test
+    @DisplayName("글 일괄 가져오기 - 잘못된 항목만 실패로 보고하고 나머지는 저장")
+    @WithUserDetails("admin")
+    @Transactional
+    void importPosts() throws Exception {
+        long postCount = postService.count();
+
+        mvc.perform(post("/api/v1/adm/posts/import")
+                        .param("batchSize", "2")
+                        .contentType(new MediaType(MediaType.APPLICATION_JSON, StandardCharsets.UTF_8))
+                        .content("""
+                                [
+                                    {
+                                        "authorUsername": "user1",
+                                        "title": "가져온 글 1",
+                                        "content": "가져온 내용 1",
+                                        "published": true,
+                                        "listed": true,
+                                        "comments": [
+                                            { "authorUsername": "user2", "content": "가져온 댓글 1" },
+                                            { "authorUsername": "user3", "content": "가져온 댓글 2" }
+                                        ]
+                                    },
+                                    { "authorUsername": "user1", "title": "", "content": "제목 없음", "published": true, "listed": true },
+                                    { "authorUsername": "nobody", "title": "작성자 없음", "content": "작성자 없음", "published": true, "listed": true },
+                                    { "authorUsername": "user2", "title": "가져온 글 2", "content": "가져온 내용 2", "published": true, "listed": false }
+                                ]
+                                """))
+                .andExpect(status().isOk())
+                .andExpect(handler().handlerType(ApiV1AdmPostController.class))
+                .andExpect(handler().methodName("importPosts"))
+                .andExpect(jsonPath("$.code").value("200-1"))
+                .andExpect(jsonPath("$.msg").value("4건 중 2건의 글을 가져왔습니다."))
+                .andExpect(jsonPath("$.data.importedItems").value(2))
+                .andExpect(jsonPath("$.data.importedComments").value(2))
+                .andExpect(jsonPath("$.data.failures.length()").value(2))
+                .andExpect(jsonPath("$.data.failures[0].index").value(1))
+                .andExpect(jsonPath("$.data.failures[0].reason").value(startsWith("title : ")))
+                .andExpect(jsonPath("$.data.failures[1].index").value(2))
+                .andExpect(jsonPath("$.data.failures[1].reason").value("존재하지 않는 작성자입니다. : nobody"));
+
+        assertThat(postService.count()).isEqualTo(postCount + 2);
+
+        Post latest = postService.getLatestItem().get();
+        assertThat(latest.getTitle()).isEqualTo("가져온 글 2");
+        assertThat(latest.getAuthorName()).isEqualTo("유저2");
+    }
+
+    @Test
+    @DisplayName("글 일괄 가져오기 - 타입이 맞지 않는 항목도 그 항목만 실패")
+    @WithUserDetails("admin")
+    @Transactional
+    void importPostsTypeMismatch() throws Exception {
+        long postCount = postService.count();
+
+        mvc.perform(post("/api/v1/adm/posts/import")
+                        .contentType(new MediaType(MediaType.APPLICATION_JSON, StandardCharsets.UTF_8))
+                        .content("""
+                                [
+                                    { "authorUsername": "user1", "title": "가져온 글 1", "content": "가져온 내용 1", "published": true, "listed": true },
+                                    { "authorUsername": "user1", "title": "잘못된 글", "content": "잘못된 내용", "published": "abc", "listed": true },
+                                    { "authorUsername": "user2", "title": "가져온 글 2", "content": "가져온 내용 2", "published": true, "listed": true }
+                                ]
+                                """))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.code").value("200-1"))
+                .andExpect(jsonPath("$.msg").value("3건 중 2건의 글을 가져왔습니다."))
+                .andExpect(jsonPath("$.data.importedItems").value(2))
+                .andExpect(jsonPath("$.data.failures.length()").value(1))
+                .andExpect(jsonPath("$.data.failures[0].index").value(1))
+                .andExpect(jsonPath("$.data.failures[0].reason").value(startsWith("형식이 맞지 않는 값이 있습니다.")));
+
+        assertThat(postService.count()).isEqualTo(postCount + 2);
+    }
+
+    @Test
+    @DisplayName("글 일괄 가져오기 - 배열이 아니면 400")
+    @WithUserDetails("admin")
+    @Transactional
+    void importPostsNotArray() throws Exception {
+        mvc.perform(post("/api/v1/adm/posts/import")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("400-1"));
+    }
+}
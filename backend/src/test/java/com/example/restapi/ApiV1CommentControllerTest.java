@@ -6,6 +6,7 @@ import com.example.restapi.domain.post.comment.controller.ApiV1CommentController
 import com.example.restapi.domain.post.comment.entity.Comment;
 import com.example.restapi.domain.post.post.entity.Post;
 import com.example.restapi.domain.post.post.service.PostService;
+import com.jayway.jsonpath.JsonPath;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -19,6 +20,8 @@ import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.nio.charset.StandardCharsets;
+
+import static org.hamcrest.Matchers.not;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -147,4 +150,155 @@ public class ApiV1CommentControllerTest {
                 .andExpect(jsonPath("$.[1].id").value(2));
     }
 
+    @Test
+    @DisplayName("댓글 다건 조회 - 같은 ETag 면 304, 댓글을 쓰면 ETag 가 바뀜")
+    void itemsEtag() throws Exception {
+        String etag = mvc.perform(get("/api/v1/posts/1/comments"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mvc.perform(get("/api/v1/posts/1/comments").header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+
+        mvc.perform(post("/api/v1/posts/1/comments")
+                        .header("Authorization", "Bearer " + authToken)
+                        .content("""
+                                {
+                                    "content": "새 댓글"
+                                }
+                                """)
+                        .contentType(new MediaType(MediaType.APPLICATION_JSON, StandardCharsets.UTF_8)))
+                .andExpect(status().isCreated());
+
+        mvc.perform(get("/api/v1/posts/1/comments").header("If-None-Match", etag))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", not(etag)))
+                .andExpect(jsonPath("$.length()").value(3))
+                .andExpect(jsonPath("$.[2].content").value("새 댓글"));
+    }
+
+    @Test
+    @DisplayName("댓글 다건 조회 - 커서, 한 페이지씩 이어 읽기")
+    void itemsByCursor() throws Exception {
+        long postId = 1;
+
+        ResultActions resultActions = mvc.perform(get("/api/v1/posts/%d/comments?cursor=&pageSize=1".formatted(postId)))
+                .andDo(print());
+
+        resultActions
+                .andExpect(status().isOk())
+                .andExpect(handler().handlerType(ApiV1CommentController.class))
+                .andExpect(handler().methodName("getItemsByCursor"))
+                .andExpect(jsonPath("$.code").value("200-1"))
+                .andExpect(jsonPath("$.data.items.length()").value(1))
+                .andExpect(jsonPath("$.data.items[0].id").value(1))
+                .andExpect(jsonPath("$.data.limit").value(1))
+                .andExpect(jsonPath("$.data.lastId").value(1))
+                .andExpect(jsonPath("$.data.nextCursor").isNotEmpty());
+
+        String nextCursor = JsonPath.read(resultActions.andReturn().getResponse().getContentAsString(), "$.data.nextCursor");
+
+        mvc.perform(get("/api/v1/posts/%d/comments?cursor=%s&pageSize=1".formatted(postId, nextCursor)))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.items.length()").value(1))
+                .andExpect(jsonPath("$.data.items[0].id").value(2))
+                .andExpect(jsonPath("$.data.nextCursor").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("댓글 다건 조회 - 잘못된 커서는 400")
+    void itemsByInvalidCursor() throws Exception {
+        mvc.perform(get("/api/v1/posts/1/comments?cursor=!!bad"))
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("400-2"));
+    }
+
+    @Test
+    @DisplayName("댓글 다건 조회 - sinceId 이후의 새 댓글")
+    void itemsSince() throws Exception {
+        long postId = 1;
+
+        mvc.perform(get("/api/v1/posts/%d/comments?sinceId=1".formatted(postId)))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(handler().methodName("getItemsSince"))
+                .andExpect(jsonPath("$.data.items.length()").value(1))
+                .andExpect(jsonPath("$.data.items[0].id").value(2))
+                .andExpect(jsonPath("$.data.lastId").value(2));
+
+        // 새 댓글이 없으면 빈 목록과 요청한 위치를 그대로 돌려준다.
+        mvc.perform(get("/api/v1/posts/%d/comments?sinceId=2".formatted(postId)))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.items.length()").value(0))
+                .andExpect(jsonPath("$.data.lastId").value(2));
+    }
+
+    @Test
+    @DisplayName("댓글 다건 조회 - 없는 글은 404")
+    void itemsOfMissingPost() throws Exception {
+        mvc.perform(get("/api/v1/posts/1000000/comments?cursor="))
+                .andDo(print())
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.code").value("404-1"));
+
+        mvc.perform(get("/api/v1/posts/1000000/comments"))
+                .andDo(print())
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.code").value("404-1"));
+    }
+
+    @Test
+    @DisplayName("댓글 단건 조회 - 다른 글의 댓글 번호는 404-2, 없는 글은 404-1")
+    void itemNotFound() throws Exception {
+        // 3번 댓글은 2번 글의 댓글
+        mvc.perform(get("/api/v1/posts/1/comments/3"))
+                .andDo(print())
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.code").value("404-2"));
+
+        mvc.perform(get("/api/v1/posts/1000000/comments/1"))
+                .andDo(print())
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.code").value("404-1"));
+    }
+
+    @Test
+    @DisplayName("댓글 수정 - 다른 회원의 댓글은 403")
+    void modifyOthers() throws Exception {
+        // 2번 댓글은 user2 의 댓글
+        mvc.perform(put("/api/v1/posts/1/comments/2")
+                        .header("Authorization", "Bearer " + authToken)
+                        .content("""
+                                {
+                                    "content": "수정"
+                                }
+                                """)
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andDo(print())
+                .andExpect(status().isForbidden())
+                .andExpect(jsonPath("$.code").value("403-1"));
+    }
+
+    @Test
+    @DisplayName("댓글 삭제 후 단건 조회는 404-2")
+    void deleteThenItem() throws Exception {
+        mvc.perform(delete("/api/v1/posts/1/comments/1")
+                        .header("Authorization", "Bearer " + authToken))
+                .andExpect(status().isOk());
+
+        mvc.perform(get("/api/v1/posts/1/comments/1"))
+                .andDo(print())
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.code").value("404-2"));
+
+        mvc.perform(get("/api/v1/posts/1/comments"))
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$.[0].id").value(2));
+    }
+
 }
@@ -0,0 +1,376 @@
+package com.example.restapi;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.File;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 내장 서버를 임의 포트로 띄우고 실제 HTTP 로 부하를 주는 테스트 (./gradlew loadTest 로만 실행)
+// 데이터는 perf 프로파일의 PerfInitData 로 H2 에 미리 만들고, 설정은 -PloadTest.<이름>=<값> 으로 바꾼다.
+// 각 워커는 응답을 받자마자 다음 요청을 보내는 닫힌 루프로 동작하고, 워밍업 구간의 결과는 버린다.
+@Tag("load")
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "spring.datasource.url=jdbc:h2:mem:db_load;MODE=MySQL",
+                "spring.jpa.properties.hibernate.generate_statistics=false",
+                "custom.post.list-cache.enabled=true",
+                "logging.level.root=WARN"
+        }
+)
+@ActiveProfiles({"test", "perf"})
+public class ApiV1LoadTest {
+
+    private static final int CONCURRENCY = intProperty("concurrency", 16);
+    private static final int WARMUP_SECONDS = intProperty("warmupSeconds", 10);
+    private static final int DURATION_SECONDS = intProperty("durationSeconds", 30);
+    private static final int SESSIONS = intProperty("sessions", 50);
+    private static final long SEED = intProperty("seed", 42);
+    private static final String MIX = System.getProperty("loadTest.mix", "list=40,detail=25,comments=20,login=3,writePost=4,writeComment=8");
+    private static final double MAX_ERROR_RATE = Double.parseDouble(System.getProperty("loadTest.maxErrorRate", "0.01"));
+
+    @DynamicPropertySource
+    static void dataset(DynamicPropertyRegistry registry) {
+        registry.add("custom.perf-data.members", () -> intProperty("members", 1_000));
+        registry.add("custom.perf-data.posts", () -> intProperty("posts", 20_000));
+        registry.add("custom.perf-data.max-comments-per-post", () -> intProperty("maxCommentsPerPost", 200));
+        registry.add("custom.perf-data.batch-size", () -> 500);
+    }
+
+    private static int intProperty(String name, int defaultValue) {
+        return Integer.parseInt(System.getProperty("loadTest." + name, String.valueOf(defaultValue)));
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @PersistenceContext
+    private EntityManager em;
+
+    private HttpClient httpClient;
+    private long[] postIds;
+    private List<Session> sessions;
+
+    private enum Endpoint {
+        LIST("list"),
+        DETAIL("detail"),
+        COMMENTS("comments"),
+        LOGIN("login"),
+        WRITE_POST("writePost"),
+        WRITE_COMMENT("writeComment");
+
+        private final String key;
+
+        Endpoint(String key) {
+            this.key = key;
+        }
+    }
+
+    private record Session(String username, String authorization) {}
+
+    @Test
+    @DisplayName("부하 테스트 - 목록/상세/댓글/로그인/작성 혼합")
+    void run() throws Exception {
+        int[] weights = parseMix(MIX);
+
+        httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+        postIds = em.createQuery("select p.id from Post p where p.published = true order by p.id", Long.class)
+                .getResultList()
+                .stream()
+                .mapToLong(Long::longValue)
+                .toArray();
+        sessions = login(SESSIONS);
+
+        long measureStart = System.nanoTime() + Duration.ofSeconds(WARMUP_SECONDS).toNanos();
+        long measureEnd = measureStart + Duration.ofSeconds(DURATION_SECONDS).toNanos();
+
+        Recorder[] total = newRecorders();
+        SplittableRandom seedRandom = new SplittableRandom(SEED);
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(CONCURRENCY)) {
+            List<Future<Recorder[]>> futures = new ArrayList<>();
+
+            for (int i = 0; i < CONCURRENCY; i++) {
+                SplittableRandom random = seedRandom.split();
+                futures.add(executor.submit(() -> work(weights, random, measureStart, measureEnd)));
+            }
+
+            for (Future<Recorder[]> future : futures) {
+                Recorder[] recorders = future.get();
+
+                for (int i = 0; i < total.length; i++) {
+                    total[i].addAll(recorders[i]);
+                }
+            }
+        }
+
+        report(total, weights);
+
+        long requests = Arrays.stream(total).mapToLong(recorder -> recorder.count).sum();
+        long errors = Arrays.stream(total).mapToLong(recorder -> recorder.errors).sum();
+
+        for (Endpoint endpoint : Endpoint.values()) {
+            if (weights[endpoint.ordinal()] > 0) {
+                assertThat(total[endpoint.ordinal()].count).as(endpoint.key).isPositive();
+            }
+        }
+
+        assertThat((double) errors / requests).isLessThanOrEqualTo(MAX_ERROR_RATE);
+    }
+
+    private int[] parseMix(String mix) {
+        int[] weights = new int[Endpoint.values().length];
+
+        for (String part : mix.split(",")) {
+            String[] keyValue = part.trim().split("=");
+            Endpoint endpoint = Arrays.stream(Endpoint.values())
+                    .filter(e -> e.key.equals(keyValue[0].trim()))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("알 수 없는 엔드포인트입니다. : " + keyValue[0]));
+
+            weights[endpoint.ordinal()] = Integer.parseInt(keyValue[1].trim());
+        }
+
+        return weights;
+    }
+
+    private List<Session> login(int count) throws Exception {
+        List<Session> sessions = new ArrayList<>(count);
+
+        for (int i = 1; i <= count; i++) {
+            String username = "perf-user-" + i;
+            HttpResponse<String> response = httpClient.send(loginRequest(username), HttpResponse.BodyHandlers.ofString());
+
+            assertThat(response.statusCode()).as(username).isEqualTo(200);
+
+            JsonNode data = objectMapper.readTree(response.body()).get("data");
+            sessions.add(new Session(username, "Bearer " + data.get("apiKey").asText() + " " + data.get("accessToken").asText()));
+        }
+
+        return sessions;
+    }
+
+    private Recorder[] work(int[] weights, SplittableRandom random, long measureStart, long measureEnd) throws Exception {
+        Recorder[] recorders = newRecorders();
+        int weightSum = Arrays.stream(weights).sum();
+
+        while (true) {
+            long start = System.nanoTime();
+
+            if (start >= measureEnd) {
+                return recorders;
+            }
+
+            Endpoint endpoint = pick(weights, weightSum, random);
+            HttpRequest request = request(endpoint, random);
+            boolean success;
+
+            try {
+                int status = httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                success = status >= 200 && status < 400;
+            } catch (Exception e) {
+                success = false;
+            }
+
+            if (start >= measureStart) {
+                recorders[endpoint.ordinal()].record(System.nanoTime() - start, success);
+            }
+        }
+    }
+
+    private Endpoint pick(int[] weights, int weightSum, SplittableRandom random) {
+        int r = random.nextInt(weightSum);
+
+        for (Endpoint endpoint : Endpoint.values()) {
+            r -= weights[endpoint.ordinal()];
+
+            if (r < 0) {
+                return endpoint;
+            }
+        }
+
+        throw new IllegalStateException();
+    }
+
+    // 상세 조회는 익명으로 호출할 수 없어서 로그인 세션으로 보낸다.
+    private HttpRequest request(Endpoint endpoint, SplittableRandom random) throws Exception {
+        Session session = sessions.get(random.nextInt(sessions.size()));
+        long postId = postIds[random.nextInt(postIds.length)];
+
+        return switch (endpoint) {
+            case LIST -> HttpRequest.newBuilder(uri("/api/v1/posts?page=%d&pageSize=10".formatted(1 + random.nextInt(10))))
+                    .GET()
+                    .build();
+            case DETAIL -> HttpRequest.newBuilder(uri("/api/v1/posts/" + postId))
+                    .header("Authorization", session.authorization())
+                    .GET()
+                    .build();
+            case COMMENTS -> HttpRequest.newBuilder(uri("/api/v1/posts/%d/comments".formatted(postId)))
+                    .GET()
+                    .build();
+            case LOGIN -> loginRequest(session.username());
+            case WRITE_POST -> jsonRequest("/api/v1/posts", session, Map.of(
+                    "title", "부하 테스트 글",
+                    "content", "부하 테스트 내용 " + random.nextInt(),
+                    "published", true,
+                    "listed", true
+            ));
+            case WRITE_COMMENT -> jsonRequest("/api/v1/posts/%d/comments".formatted(postId), session, Map.of(
+                    "content", "부하 테스트 댓글 " + random.nextInt()
+            ));
+        };
+    }
+
+    private HttpRequest loginRequest(String username) throws Exception {
+        return jsonRequest("/api/v1/members/login", null, Map.of(
+                "username", username,
+                "password", username + "1234"
+        ));
+    }
+
+    private HttpRequest jsonRequest(String path, Session session, Map<String, Object> body) throws Exception {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(uri(path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)));
+
+        if (session != null) {
+            builder.header("Authorization", session.authorization());
+        }
+
+        return builder.build();
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private Recorder[] newRecorders() {
+        Recorder[] recorders = new Recorder[Endpoint.values().length];
+
+        for (int i = 0; i < recorders.length; i++) {
+            recorders[i] = new Recorder();
+        }
+
+        return recorders;
+    }
+
+    private void report(Recorder[] recorders, int[] weights) throws Exception {
+        List<Map<String, Object>> endpoints = new ArrayList<>();
+        StringBuilder sb = new StringBuilder();
+
+        sb.append("%n[load test] concurrency=%d, duration=%ds, mix=%s, posts=%d%n".formatted(CONCURRENCY, DURATION_SECONDS, MIX, postIds.length));
+        sb.append("%-13s %9s %7s %9s %8s %8s %8s %8s %8s%n".formatted("endpoint", "requests", "errors", "req/s", "p50(ms)", "p90(ms)", "p99(ms)", "p99.9", "max"));
+
+        for (Endpoint endpoint : Endpoint.values()) {
+            Recorder recorder = recorders[endpoint.ordinal()];
+
+            if (weights[endpoint.ordinal()] == 0) {
+                continue;
+            }
+
+            long[] sorted = Arrays.copyOf(recorder.latencies, recorder.count);
+            Arrays.sort(sorted);
+
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("endpoint", endpoint.key);
+            result.put("requests", recorder.count);
+            result.put("errors", recorder.errors);
+            result.put("throughput", (double) recorder.count / DURATION_SECONDS);
+            result.put("p50Ms", percentile(sorted, 0.5));
+            result.put("p90Ms", percentile(sorted, 0.9));
+            result.put("p99Ms", percentile(sorted, 0.99));
+            result.put("p999Ms", percentile(sorted, 0.999));
+            result.put("maxMs", percentile(sorted, 1));
+            endpoints.add(result);
+
+            sb.append("%-13s %9d %7d %9.1f %8.2f %8.2f %8.2f %8.2f %8.2f%n".formatted(
+                    endpoint.key, recorder.count, recorder.errors, result.get("throughput"),
+                    result.get("p50Ms"), result.get("p90Ms"), result.get("p99Ms"), result.get("p999Ms"), result.get("maxMs")
+            ));
+        }
+
+        System.out.println(sb);
+
+        String reportFile = System.getProperty("loadTest.reportFile");
+
+        if (reportFile != null) {
+            File file = new File(reportFile);
+            file.getParentFile().mkdirs();
+
+            Map<String, Object> report = new LinkedHashMap<>();
+            report.put("concurrency", CONCURRENCY);
+            report.put("warmupSeconds", WARMUP_SECONDS);
+            report.put("durationSeconds", DURATION_SECONDS);
+            report.put("mix", MIX);
+            report.put("posts", postIds.length);
+            report.put("endpoints", endpoints);
+
+            objectMapper.writerWithDefaultPrettyPrinter().writeValue(file, report);
+        }
+    }
+
+    private double percentile(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+
+        int index = (int) Math.ceil(p * sorted.length) - 1;
+
+        return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+
+    // 워커마다 따로 두고 끝난 뒤 합쳐서, 측정 중에는 스레드 간 공유 상태가 없다.
+    private static class Recorder {
+        private long[] latencies = new long[1024];
+        private int count;
+        private int errors;
+
+        void record(long nanos, boolean success) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+
+            latencies[count++] = nanos;
+
+            if (!success) {
+                errors++;
+            }
+        }
+
+        void addAll(Recorder other) {
+            latencies = Arrays.copyOf(latencies, Math.max(latencies.length, count + other.count));
+            System.arraycopy(other.latencies, 0, latencies, count, other.count);
+            count += other.count;
+            errors += other.errors;
+        }
+    }
+}
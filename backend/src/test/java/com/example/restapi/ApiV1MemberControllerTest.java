@@ -295,6 +295,36 @@ public class ApiV1MemberControllerTest {
                 );
     }
 
+    @Test
+    @DisplayName("로그아웃, 다른 회원의 apiKey 와 유효하지 않은 토큰이면 쿠키만 지운다.")
+    void logout2() throws Exception {
+        String apiKey = loginedMember.getApiKey();
+        Member otherMember = memberService.findByUsername("user2").get();
+        String otherAccessToken = memberService.getAuthToken(otherMember).split(" ", 2)[1];
+
+        for (String authorization : new String[]{"Bearer %s invalid".formatted(apiKey), "Bearer %s %s".formatted(apiKey, otherAccessToken)}) {
+            ResultActions resultActions = mvc.perform(
+                    delete("/api/v1/members/logout")
+                            .header("Authorization", authorization)
+            );
+
+            resultActions
+                    .andExpect(status().isOk())
+                    .andExpect(handler().handlerType(ApiV1MemberController.class))
+                    .andExpect(handler().methodName("logout"))
+                    .andExpect(jsonPath("$.code").value("200-1"))
+                    .andExpect(jsonPath("$.msg").value("로그아웃 되었습니다."))
+                    .andExpect(cookie().maxAge("apiKey", 0))
+                    .andExpect(cookie().maxAge("accessToken", 0));
+        }
+
+        assertThat(memberService.findByUsername("user1").get().getApiKey()).isEqualTo(apiKey);
+
+        meRequest(authToken)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.code").value("200-1"));
+    }
+
     private ResultActions meRequest(String authToken) throws Exception {
         return mvc
                 .perform(
@@ -4,6 +4,8 @@ import com.example.restapi.domain.member.member.entity.Member;
 import com.example.restapi.domain.member.member.service.MemberService;
 import com.example.restapi.domain.post.post.controller.ApiV1PostController;
 import com.example.restapi.domain.post.post.controller.SearchKeywordType;
+import com.example.restapi.domain.post.post.dto.PostCursor;
+import com.example.restapi.domain.post.post.dto.PostDto;
 import com.example.restapi.domain.post.post.entity.Post;
 import com.example.restapi.domain.post.post.service.PostService;
 import com.example.restapi.global.security.SecurityConfig;
@@ -15,6 +17,7 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithUserDetails;
 import org.springframework.test.annotation.Rollback;
@@ -58,16 +61,16 @@ public class ApiV1PostControllerTest {
         authToken = memberService.getAuthToken(loginedMember);
     }
 
-    private void checkPosts(ResultActions resultActions, List<Post> posts) throws Exception {
+    private void checkPosts(ResultActions resultActions, List<PostDto> posts) throws Exception {
         for(int i = 0; i < posts.size(); i++) {
-            Post post = posts.get(i);
+            PostDto post = posts.get(i);
             resultActions
                 .andExpect(jsonPath("$.data.items[%d]".formatted(i)).exists())
                 .andExpect(jsonPath("$.data.items[%d].id".formatted(i)).value(post.getId()))
                 .andExpect(jsonPath("$.data.items[%d].title".formatted(i)).value(post.getTitle()))
                 .andExpect(jsonPath("$.data.items[%d].content".formatted(i)).doesNotExist())
-                .andExpect(jsonPath("$.data.items[%d].authorId".formatted(i)).value(post.getAuthor().getId()))
-                .andExpect(jsonPath("$.data.items[%d].authorName".formatted(i)).value(post.getAuthor().getNickname()))
+                .andExpect(jsonPath("$.data.items[%d].authorId".formatted(i)).value(post.getAuthorId()))
+                .andExpect(jsonPath("$.data.items[%d].authorName".formatted(i)).value(post.getAuthorName()))
                 .andExpect(jsonPath("$.data.items[%d].published".formatted(i)).value(post.isPublished()))
                 .andExpect(jsonPath("$.data.items[%d].listed".formatted(i)).value(post.isListed()))
                 .andExpect(jsonPath("$.data.items[%d].createdDate".formatted(i)).value(matchesPattern(post.getCreatedDate().toString().replaceAll("0+$", "") + ".*")))
@@ -96,8 +99,8 @@ public class ApiV1PostControllerTest {
                 .andExpect(jsonPath("$.data.currentPageNo").value(page))
                 .andExpect(jsonPath("$.data.totalPages").isNumber());
 
-        Page<Post> postPage = postService.getListedItems(page, pageSize, null, "");
-        List<Post> posts = postPage.getContent();
+        Page<PostDto> postPage = postService.getListedItems(page, pageSize, null, "");
+        List<PostDto> posts = postPage.getContent();
         checkPosts(resultActions, posts);
     }
 
@@ -128,8 +131,8 @@ public class ApiV1PostControllerTest {
                 .andExpect(jsonPath("$.data.totalPages").value(3))
                 .andExpect(jsonPath("$.data.totalItems").value(7));
 
-        Page<Post> postPage = postService.getListedItems(page, pageSize, SearchKeywordType.TITLE, keyword);
-        List<Post> posts = postPage.getContent();
+        Page<PostDto> postPage = postService.getListedItems(page, pageSize, SearchKeywordType.TITLE, keyword);
+        List<PostDto> posts = postPage.getContent();
         checkPosts(resultActions, posts);
     }
 
@@ -160,11 +163,32 @@ public class ApiV1PostControllerTest {
                 .andExpect(jsonPath("$.data.totalPages").value(3))
                 .andExpect(jsonPath("$.data.totalItems").value(7));
 
-        Page<Post> postPage = postService.getListedItems(page, pageSize, SearchKeywordType.CONTENT, keyword);
-        List<Post> posts = postPage.getContent();
+        Page<PostDto> postPage = postService.getListedItems(page, pageSize, SearchKeywordType.CONTENT, keyword);
+        List<PostDto> posts = postPage.getContent();
         checkPosts(resultActions, posts);
     }
 
+    @Test
+    @DisplayName("글 다건 조회 - 검색어의 _ 와 % 는 와일드카드가 아니라 글자로 찾음")
+    void itemsKeywordWithWildcard() throws Exception {
+        Post matched = postService.write(loginedMember, "할인_50% 쿠폰", "내용", true, true);
+        postService.write(loginedMember, "할인A50 쿠폰", "내용", true, true);
+        postService.write(loginedMember, "할인_500 쿠폰", "내용", true, true);
+
+        ResultActions resultActions = mvc
+                .perform(get("/api/v1/posts")
+                        .param("keywordType", "TITLE")
+                        .param("keyword", "할인_50%"))
+                .andDo(print());
+
+        resultActions
+                .andExpect(status().isOk())
+                .andExpect(handler().handlerType(ApiV1PostController.class))
+                .andExpect(handler().methodName("getItems"))
+                .andExpect(jsonPath("$.data.totalItems").value(1))
+                .andExpect(jsonPath("$.data.items[0].id").value(matched.getId()));
+    }
+
     @Test
     @DisplayName("글 다건 조회 4 - 내가 작성한 글 조회")
     void items4() throws Exception {
@@ -193,11 +217,65 @@ public class ApiV1PostControllerTest {
                 .andExpect(jsonPath("$.data.totalPages").value(2))
                 .andExpect(jsonPath("$.data.totalItems").value(5));
 
-        Page<Post> postPage = postService.getMyItems(loginedMember, page, pageSize, SearchKeywordType.TITLE, keyword);
-        List<Post> posts = postPage.getContent();
+        Page<PostDto> postPage = postService.getMyItems(loginedMember, page, pageSize, SearchKeywordType.TITLE, keyword);
+        List<PostDto> posts = postPage.getContent();
         checkPosts(resultActions, posts);
     }
 
+    @Test
+    @DisplayName("글 다건 조회 5 - 커서 기반 페이징")
+    void items5() throws Exception {
+        int pageSize = 3;
+
+        ResultActions resultActions = mvc
+                .perform(get("/api/v1/posts")
+                        .param("cursor", "")
+                        .param("pageSize", String.valueOf(pageSize)))
+                .andDo(print());
+
+        resultActions
+                .andExpect(status().isOk())
+                .andExpect(handler().handlerType(ApiV1PostController.class))
+                .andExpect(handler().methodName("getItemsByCursor"))
+                .andExpect(jsonPath("$.code").value("200-1"))
+                .andExpect(jsonPath("$.data.items.length()").value(pageSize))
+                .andExpect(jsonPath("$.data.nextCursor").isString())
+                .andExpect(jsonPath("$.data.prevCursor").doesNotExist());
+
+        Slice<PostDto> firstSlice = postService.getListedItemsByCursor(null, pageSize, SearchKeywordType.TITLE, "");
+        checkPosts(resultActions, firstSlice.getContent());
+
+        PostCursor nextCursor = PostCursor.after(firstSlice.getContent().getLast().getId());
+
+        ResultActions nextResultActions = mvc
+                .perform(get("/api/v1/posts")
+                        .param("cursor", nextCursor.encode())
+                        .param("pageSize", String.valueOf(pageSize)))
+                .andDo(print());
+
+        nextResultActions
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.items.length()").value(pageSize))
+                .andExpect(jsonPath("$.data.prevCursor").isString());
+
+        Slice<PostDto> nextSlice = postService.getListedItemsByCursor(nextCursor, pageSize, SearchKeywordType.TITLE, "");
+        checkPosts(nextResultActions, nextSlice.getContent());
+    }
+
+    @Test
+    @DisplayName("글 다건 조회 6 - 잘못된 커서")
+    void items6() throws Exception {
+        ResultActions resultActions = mvc
+                .perform(get("/api/v1/posts")
+                        .param("cursor", "!!invalid!!"))
+                .andDo(print());
+
+        resultActions
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("400-2"))
+                .andExpect(jsonPath("$.msg").value("잘못된 커서입니다."));
+    }
+
     private void checkPost(ResultActions resultActions, Post post) throws Exception {
         resultActions
                 .andExpect(jsonPath("$.data").exists())
@@ -223,7 +301,8 @@ public class ApiV1PostControllerTest {
     @DisplayName("글 단건 조회 1 - 다른 유저의 공개글 조회")
     void item1() throws Exception {
        long postId = 1;
-        ResultActions resultActions = itemRequest(postId, "user2");
+        String otherToken = memberService.getAuthToken(memberService.findByUsername("user2").get());
+        ResultActions resultActions = itemRequest(postId, otherToken);
 
         resultActions
                 .andExpect(status().isOk())
@@ -268,6 +347,92 @@ public class ApiV1PostControllerTest {
                 .andExpect(jsonPath("$.msg").value("존재하지 않는 글입니다."));
     }
 
+    @Test
+    @DisplayName("글 단건 조회 4 - ETag 가 같으면 304, 글이 수정되면 200")
+    void item4() throws Exception {
+        long postId = 1;
+
+        String etag = itemRequest(postId, authToken)
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", "private, no-cache"))
+                .andReturn()
+                .getResponse()
+                .getHeader("ETag");
+
+        mvc.perform(get("/api/v1/posts/%d".formatted(postId))
+                        .header("Authorization", "Bearer " + authToken)
+                        .header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", etag))
+                .andExpect(content().string(""));
+
+        Post post = postService.getItem(postId).get();
+        postService.modify(post, "수정된 제목", post.getContent(), post.isPublished(), post.isListed());
+        postService.flush();
+
+        mvc.perform(get("/api/v1/posts/%d".formatted(postId))
+                        .header("Authorization", "Bearer " + authToken)
+                        .header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.title").value("수정된 제목"));
+    }
+
+    @Test
+    @DisplayName("글 단건 조회 5 - 다른 유저의 비공개글은 ETag 가 같아도 403")
+    void item5() throws Exception {
+        long postId = 3;
+
+        String etag = itemRequest(postId, authToken)
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader("ETag");
+
+        String otherToken = memberService.getAuthToken(memberService.findByUsername("user2").get());
+
+        mvc.perform(get("/api/v1/posts/%d".formatted(postId))
+                        .header("Authorization", "Bearer " + otherToken)
+                        .header("If-None-Match", etag))
+                .andExpect(status().isForbidden())
+                .andExpect(jsonPath("$.code").value("403-1"));
+    }
+
+    @Test
+    @DisplayName("글 단건 조회 6 - 로그인하지 않으면 401-3")
+    void item6() throws Exception {
+        mvc.perform(get("/api/v1/posts/1"))
+                .andExpect(status().isUnauthorized())
+                .andExpect(handler().methodName("getItem"))
+                .andExpect(jsonPath("$.code").value("401-3"));
+
+        mvc.perform(get("/api/v1/posts/1")
+                        .header("Authorization", "Bearer user2"))
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.code").value("401-3"));
+    }
+
+    @Test
+    @DisplayName("글 다건 조회 7 - ETag 가 같으면 304")
+    void items7() throws Exception {
+        String etag = mvc.perform(get("/api/v1/posts").param("page", "1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", "public, no-cache"))
+                .andReturn()
+                .getResponse()
+                .getHeader("ETag");
+
+        mvc.perform(get("/api/v1/posts")
+                        .param("page", "1")
+                        .header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        mvc.perform(get("/api/v1/posts")
+                        .param("page", "2")
+                        .header("If-None-Match", etag))
+                .andExpect(status().isOk());
+    }
+
     private ResultActions writeRequest(String token, String title, String content) throws Exception {
         return mvc
                 .perform(post("/api/v1/posts")
@@ -489,6 +654,8 @@ public class ApiV1PostControllerTest {
     @DisplayName("통계 - 관리자 기능 - 관리자 접근")
     @WithUserDetails("admin")
     void statisticsAdmin() throws Exception {
+        List<Post> posts = postService.getItems();
+
         ResultActions resultActions = mvc.perform(
                         get("/api/v1/posts/statistics")
                 )
@@ -499,9 +666,9 @@ public class ApiV1PostControllerTest {
                 .andExpect(handler().methodName("getStatistics"))
                 .andExpect(jsonPath("$.code").value("200-1"))
                 .andExpect(jsonPath("$.msg").value("통계 조회가 완료되었습니다."))
-                .andExpect(jsonPath("$.data.postCount").value(10))
-                .andExpect(jsonPath("$.data.postPublishedCount").value(10))
-                .andExpect(jsonPath("$.data.postListedCount").value(10));
+                .andExpect(jsonPath("$.data.postCount").value(posts.size()))
+                .andExpect(jsonPath("$.data.postPublishedCount").value(posts.stream().filter(Post::isPublished).count()))
+                .andExpect(jsonPath("$.data.postListedCount").value(posts.stream().filter(Post::isListed).count()));
     }
 
     @Test
@@ -0,0 +1,348 @@
+package com.example.restapi;
+
+import com.example.restapi.domain.member.member.entity.Member;
+import com.example.restapi.domain.member.member.service.MemberService;
+import com.example.restapi.domain.post.post.service.PostService;
+import com.jayway.jsonpath.JsonPath;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 엔드포인트별 SQL 실행 횟수 고정 (N+1 회귀 방지)
+// 실제 요청처럼 요청마다 트랜잭션/영속성 컨텍스트가 새로 열리도록 테스트 클래스에 @Transactional 을 붙이지 않는다.
+@SpringBootTest
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+public class ApiV1QueryCountTest {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Member user1;
+    private String authToken;
+    private String adminAuthToken;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        user1 = memberService.findByUsername("user1").get();
+        authToken = memberService.getAuthToken(user1);
+        adminAuthToken = memberService.getAuthToken(memberService.findByUsername("admin").get());
+    }
+
+    // 첫 요청은 카운터 생성 등 1회성 쿼리가 섞일 수 있으므로 두 번째 요청을 센다.
+    private long countStatements(MockHttpServletRequestBuilder request) throws Exception {
+        mvc.perform(request).andExpect(status().isOk());
+
+        statistics.clear();
+        mvc.perform(request).andExpect(status().isOk());
+
+        return statistics.getPrepareStatementCount();
+    }
+
+    // 쓰기 테스트는 커밋되므로 직접 만든 글에서 확인하고 끝나면 지운다. (댓글은 글과 함께 지워진다.)
+    private long writePost() {
+        return postService.write(user1, "쿼리 수 확인", "쿼리 수 확인", true, true).getId();
+    }
+
+    private void deletePost(long id) {
+        postService.getItem(id).ifPresent(postService::delete);
+    }
+
+    // 수정/삭제는 관리자로 요청해서, 권한 확인이 작성자 비교 없이 끝나도록 고정한다.
+    private MockHttpServletRequestBuilder modifyPostRequest(long id, String title) {
+        return put("/api/v1/posts/" + id)
+                .header("Authorization", "Bearer " + adminAuthToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        {
+                            "title": "%s",
+                            "content": "쿼리 수 확인",
+                            "published": true,
+                            "listed": true
+                        }
+                        """.formatted(title));
+    }
+
+    private MockHttpServletRequestBuilder modifyCommentRequest(long postId, long id, String content) {
+        return put("/api/v1/posts/%d/comments/%d".formatted(postId, id))
+                .header("Authorization", "Bearer " + adminAuthToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        {
+                            "content": "%s"
+                        }
+                        """.formatted(content));
+    }
+
+    private long postComment(long postId) throws Exception {
+        String body = mvc.perform(post("/api/v1/posts/%d/comments".formatted(postId))
+                        .header("Authorization", "Bearer " + authToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {
+                                    "content": "쿼리 수 확인"
+                                }
+                                """))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+
+        String msg = JsonPath.read(body, "$.msg");
+
+        return Long.parseLong(msg.substring(0, msg.indexOf('번')));
+    }
+
+    @Test
+    @DisplayName("글 목록 - 목록 1 + 카운터 1")
+    void items() throws Exception {
+        long count = countStatements(get("/api/v1/posts")
+                .param("page", "2")
+                .param("pageSize", "10"));
+
+        assertThat(count).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("글 목록 검색 - 목록 1 + 개수 1")
+    void searchItems() throws Exception {
+        long count = countStatements(get("/api/v1/posts")
+                .param("pageSize", "10")
+                .param("keywordType", "TITLE")
+                .param("keyword", "title"));
+
+        assertThat(count).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("글 목록 커서 - 목록 1")
+    void itemsByCursor() throws Exception {
+        long count = countStatements(get("/api/v1/posts")
+                .param("cursor", "")
+                .param("pageSize", "10"));
+
+        assertThat(count).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("내 글 목록 - 목록 1 + 카운터 1")
+    void myItems() throws Exception {
+        long count = countStatements(get("/api/v1/posts/mine")
+                .header("Authorization", "Bearer " + authToken)
+                .param("keywordType", "TITLE")
+                .param("pageSize", "10"));
+
+        assertThat(count).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("글 단건 - 버전 1 + 글 1")
+    void item() throws Exception {
+        long count = countStatements(get("/api/v1/posts/1")
+                .header("Authorization", "Bearer " + authToken));
+
+        assertThat(count).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("글 단건 304 - 버전 1")
+    void itemNotModified() throws Exception {
+        String etag = mvc.perform(get("/api/v1/posts/1").header("Authorization", "Bearer " + authToken))
+                .andReturn().getResponse().getHeader("ETag");
+
+        statistics.clear();
+        mvc.perform(get("/api/v1/posts/1")
+                        .header("Authorization", "Bearer " + authToken)
+                        .header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("댓글 목록 - 댓글 버전 1 + 댓글 1")
+    void comments() throws Exception {
+        long count = countStatements(get("/api/v1/posts/1/comments"));
+
+        assertThat(count).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("댓글 목록 304 - 댓글 버전 1")
+    void commentsNotModified() throws Exception {
+        String etag = mvc.perform(get("/api/v1/posts/1/comments"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        statistics.clear();
+        mvc.perform(get("/api/v1/posts/1/comments").header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("댓글 단건 - (postId, id) 조회 1")
+    void comment() throws Exception {
+        long count = countStatements(get("/api/v1/posts/1/comments/1")
+                .header("Authorization", "Bearer " + authToken));
+
+        assertThat(count).isEqualTo(1);
+    }
+
+    // 시퀀스는 50개씩 미리 받아 두므로, 그 사이에 걸리면 다음 값 조회 1 이 더해진다.
+    @Test
+    @DisplayName("글 작성 - 글 INSERT 1 + 카운터 2 (+ 시퀀스 최대 1)")
+    void write() throws Exception {
+        MockHttpServletRequestBuilder request = post("/api/v1/posts")
+                .header("Authorization", "Bearer " + authToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        {
+                            "title": "쿼리 수 확인",
+                            "content": "쿼리 수 확인",
+                            "published": true,
+                            "listed": true
+                        }
+                        """);
+        List<Long> ids = new ArrayList<>();
+
+        try {
+            String first = mvc.perform(request).andExpect(status().isCreated()).andReturn().getResponse().getContentAsString();
+            ids.add(((Number) JsonPath.read(first, "$.data.id")).longValue());
+
+            statistics.clear();
+            String second = mvc.perform(request).andExpect(status().isCreated()).andReturn().getResponse().getContentAsString();
+            ids.add(((Number) JsonPath.read(second, "$.data.id")).longValue());
+
+            assertThat(statistics.getPrepareStatementCount()).isBetween(3L, 4L);
+        } finally {
+            ids.forEach(this::deletePost);
+        }
+    }
+
+    @Test
+    @DisplayName("글 수정 - 글 1 + 글 UPDATE 1")
+    void modify() throws Exception {
+        long id = writePost();
+
+        try {
+            mvc.perform(modifyPostRequest(id, "쿼리 수 확인 1")).andExpect(status().isOk());
+
+            statistics.clear();
+            mvc.perform(modifyPostRequest(id, "쿼리 수 확인 2")).andExpect(status().isOk());
+
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        } finally {
+            deletePost(id);
+        }
+    }
+
+    @Test
+    @DisplayName("글 삭제 - 글 2 (권한 확인, 삭제) + 댓글 1 + 카운터 2 + 글 DELETE 1")
+    void deleteItem() throws Exception {
+        long id = writePost();
+
+        try {
+            statistics.clear();
+            mvc.perform(delete("/api/v1/posts/" + id)
+                            .header("Authorization", "Bearer " + adminAuthToken))
+                    .andExpect(status().isOk());
+
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(6);
+        } finally {
+            deletePost(id);
+        }
+    }
+
+    @Test
+    @DisplayName("댓글 작성 - 글 1 + 댓글 버전 1 + 댓글 INSERT 1 (+ 시퀀스 최대 1)")
+    void writeComment() throws Exception {
+        long postId = writePost();
+
+        try {
+            postComment(postId);
+
+            statistics.clear();
+            postComment(postId);
+
+            assertThat(statistics.getPrepareStatementCount()).isBetween(3L, 4L);
+        } finally {
+            deletePost(postId);
+        }
+    }
+
+    @Test
+    @DisplayName("댓글 수정 - 댓글 1 + 댓글 버전 1 + 댓글 UPDATE 1")
+    void modifyComment() throws Exception {
+        long postId = writePost();
+
+        try {
+            long id = postComment(postId);
+            mvc.perform(modifyCommentRequest(postId, id, "쿼리 수 확인 1")).andExpect(status().isOk());
+
+            statistics.clear();
+            mvc.perform(modifyCommentRequest(postId, id, "쿼리 수 확인 2")).andExpect(status().isOk());
+
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        } finally {
+            deletePost(postId);
+        }
+    }
+
+    @Test
+    @DisplayName("댓글 삭제 - 댓글 1 + 댓글 DELETE 1 + 댓글 버전 1")
+    void deleteComment() throws Exception {
+        long postId = writePost();
+
+        try {
+            long id = postComment(postId);
+
+            statistics.clear();
+            mvc.perform(delete("/api/v1/posts/%d/comments/%d".formatted(postId, id))
+                            .header("Authorization", "Bearer " + adminAuthToken))
+                    .andExpect(status().isOk());
+
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        } finally {
+            deletePost(postId);
+        }
+    }
+
+    @Test
+    @DisplayName("내 정보 - 회원 캐시 적중 0")
+    void me() throws Exception {
+        long count = countStatements(get("/api/v1/members/me")
+                .header("Authorization", "Bearer " + authToken));
+
+        assertThat(count).isEqualTo(0);
+    }
+}
@@ -75,4 +75,43 @@ public class AuthTokenServiceTest {
 
     }
 
+    @Test
+    @DisplayName("검증된 토큰은 다시 검증하지 않고 캐시된 페이로드를 사용")
+    void verifiedTokenCache() {
+        Member member = memberService.findByUsername("user1").get();
+        String accessToken = authTokenService.genAccessToken(member);
+
+        Map<String, Object> first = authTokenService.getPayload(accessToken);
+        Map<String, Object> second = authTokenService.getPayload(accessToken);
+
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    @DisplayName("서명이 변조된 토큰은 null")
+    void tamperedToken() {
+        Member member = memberService.findByUsername("user1").get();
+        String accessToken = authTokenService.genAccessToken(member);
+        authTokenService.getPayload(accessToken);
+
+        int signatureStart = accessToken.lastIndexOf('.') + 1;
+        char first = accessToken.charAt(signatureStart);
+        String tampered = accessToken.substring(0, signatureStart) + (first == 'A' ? 'B' : 'A') + accessToken.substring(signatureStart + 1);
+
+        assertThat(authTokenService.getPayload(tampered)).isNull();
+    }
+
+    @Test
+    @DisplayName("만료된 토큰은 null")
+    void expiredToken() {
+        Member member = memberService.findByUsername("user1").get();
+        String expired = Utils.Jwt.createToken(
+                keyString,
+                -1,
+                Map.of("id", member.getId(), "username", member.getUsername(), "nickname", member.getNickname())
+        );
+
+        assertThat(Utils.Jwt.isTokenValid(keyString, expired)).isFalse();
+        assertThat(authTokenService.getPayload(expired)).isNull();
+    }
 }
@@ -0,0 +1,126 @@
+package com.example.restapi.domain.member.member.service;
+
+import com.example.restapi.domain.member.member.entity.Member;
+import com.example.restapi.domain.member.member.repository.MemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 트랜잭션 밖에서는 읽은 값이 바로 캐시에 들어간다.
+@SpringBootTest
+@ActiveProfiles("test")
+public class MemberCacheTest {
+
+    @Autowired
+    private MemberCache memberCache;
+    @Autowired
+    private MemberService memberService;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final AtomicInteger loadCount = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        memberCache.clear();
+        loadCount.set(0);
+    }
+
+    private Optional<Member> loadUser1() {
+        loadCount.incrementAndGet();
+        return memberRepository.findByUsername("user1");
+    }
+
+    @Test
+    @DisplayName("id, apiKey, username 어느 쪽으로 읽어도 같은 스냅샷을 사용")
+    void hit() {
+        Member member = memberCache.getByUsername("user1", this::loadUser1).get();
+
+        assertThat(memberCache.getByUsername("user1", this::loadUser1)).contains(member);
+        assertThat(memberCache.getById(member.getId(), this::loadUser1)).contains(member);
+        assertThat(memberCache.getByApiKey(member.getApiKey(), this::loadUser1)).contains(member);
+        assertThat(loadCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("꺼낸 회원을 고쳐도 캐시는 바뀌지 않음")
+    void copy() {
+        Member member = memberCache.getByUsername("user1", this::loadUser1).get();
+        String nickname = member.getNickname();
+
+        member.setNickname("바뀐닉네임");
+
+        assertThat(memberCache.getByUsername("user1", this::loadUser1).get().getNickname()).isEqualTo(nickname);
+    }
+
+    @Test
+    @DisplayName("닉네임을 바꾸면 무효화되어 새 값을 읽음")
+    void invalidate() {
+        Member joined = memberService.join("cacheUser", "cacheUser1234", "캐시회원");
+
+        try {
+            Member member = memberService.findByUsername("cacheUser").get();
+            memberService.findByApiKey(member.getApiKey());
+
+            memberService.modifyNickname(member, "캐시닉네임");
+
+            assertThat(memberService.findById(member.getId()).get().getNickname()).isEqualTo("캐시닉네임");
+            assertThat(memberService.findByApiKey(member.getApiKey()).get().getNickname()).isEqualTo("캐시닉네임");
+            assertThat(memberService.findByUsername("cacheUser").get().getNickname()).isEqualTo("캐시닉네임");
+        } finally {
+            memberRepository.deleteById(joined.getId());
+            memberCache.clear();
+        }
+    }
+
+    @Test
+    @DisplayName("오래된 스냅샷으로 닉네임을 바꿔도 다른 컬럼은 덮어쓰지 않음")
+    void staleSnapshot() {
+        Member joined = memberService.join("staleUser", "staleUser1234", "스냅샷회원");
+
+        try {
+            Member snapshot = memberService.findById(joined.getId()).get();
+
+            // 다른 인스턴스에서 apiKey 를 바꾼 상황. 이 인스턴스의 캐시에는 이전 값이 남아 있다.
+            new TransactionTemplate(transactionManager).executeWithoutResult(_ ->
+                    memberRepository.updateApiKey(joined.getId(), "rotatedApiKey", LocalDateTime.now())
+            );
+
+            memberService.modifyNickname(snapshot, "새스냅샷닉네임");
+
+            Member saved = memberRepository.findById(joined.getId()).get();
+
+            assertThat(saved.getNickname()).isEqualTo("새스냅샷닉네임");
+            assertThat(saved.getApiKey()).isEqualTo("rotatedApiKey");
+        } finally {
+            memberRepository.deleteById(joined.getId());
+            memberCache.clear();
+        }
+    }
+
+    @Test
+    @DisplayName("롤백된 트랜잭션에서 읽은 값은 캐시에 넣지 않음")
+    void rollback() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            memberCache.getByUsername("user1", this::loadUser1);
+            status.setRollbackOnly();
+        });
+
+        memberCache.getByUsername("user1", this::loadUser1);
+
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+}
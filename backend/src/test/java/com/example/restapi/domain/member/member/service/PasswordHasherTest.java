@@ -0,0 +1,127 @@
+package com.example.restapi.domain.member.member.service;
+
+import com.example.restapi.domain.member.member.entity.Member;
+import com.example.restapi.domain.member.member.repository.MemberRepository;
+import com.example.restapi.global.exception.ServiceException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class PasswordHasherTest {
+
+    @Autowired
+    private PasswordHasher passwordHasher;
+    @Autowired
+    private MemberService memberService;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private MemberCache memberCache;
+
+    @Test
+    @DisplayName("bcrypt 로 해시하고 검증")
+    void encode() {
+        String encoded = passwordHasher.encode("secret1234");
+
+        assertThat(encoded).startsWith("{bcrypt}");
+        assertThat(passwordHasher.matches("secret1234", encoded)).isTrue();
+        assertThat(passwordHasher.matches("wrong", encoded)).isFalse();
+        assertThat(passwordHasher.needsUpgrade(encoded)).isFalse();
+    }
+
+    @Test
+    @DisplayName("가입하면 비밀번호는 해시로 저장")
+    void join() {
+        Member member = memberRepository.findByUsername("user1").get();
+
+        assertThat(member.getPassword()).startsWith("{bcrypt}");
+        assertThat(memberService.login("user1", "user11234").getId()).isEqualTo(member.getId());
+    }
+
+    @Test
+    @DisplayName("평문으로 저장된 비밀번호는 로그인에 성공하면 해시로 바뀜")
+    void rehashLegacy() {
+        Member legacy = memberRepository.save(Member.builder()
+                .username("legacyUser")
+                .password("legacyUser1234")
+                .apiKey("legacyUser")
+                .nickname("예전회원")
+                .build());
+
+        try {
+            assertThatThrownBy(() -> memberService.login("legacyUser", "wrong"))
+                    .isInstanceOf(ServiceException.class)
+                    .extracting("code")
+                    .isEqualTo("401-2");
+            assertThat(memberRepository.findById(legacy.getId()).get().getPassword()).isEqualTo("legacyUser1234");
+
+            memberService.login("legacyUser", "legacyUser1234");
+
+            String rehashed = memberRepository.findById(legacy.getId()).get().getPassword();
+            assertThat(rehashed).startsWith("{bcrypt}");
+            assertThat(memberService.findByUsername("legacyUser").get().getPassword()).isEqualTo(rehashed);
+            assertThat(memberService.login("legacyUser", "legacyUser1234").getId()).isEqualTo(legacy.getId());
+        } finally {
+            memberRepository.deleteById(legacy.getId());
+            memberCache.clear();
+        }
+    }
+
+    @Test
+    @DisplayName("{ 로 시작하는 평문 비밀번호도 평문으로 비교")
+    void legacyWithBrace() {
+        assertThat(passwordHasher.matches("{noop}1234", "{noop}1234")).isTrue();
+        assertThat(passwordHasher.matches("{x}", "{x}")).isTrue();
+        assertThat(passwordHasher.matches("wrong", "{noop}1234")).isFalse();
+        assertThat(passwordHasher.needsUpgrade("{noop}1234")).isTrue();
+    }
+
+    @Test
+    @DisplayName("풀과 대기열이 차면 기다리지 않고 503")
+    void rejected() {
+        PasswordHasher hasher = new PasswordHasher(14, 1, 1, Duration.ofSeconds(30), new SimpleMeterRegistry());
+
+        try {
+            CompletableFuture.runAsync(() -> hasher.encode("running"));
+            CompletableFuture.runAsync(() -> hasher.encode("queued"));
+
+            assertThatThrownBy(() -> {
+                // 앞의 두 작업이 풀과 대기열을 채울 때까지 여러 번 시도
+                for (int i = 0; i < 100; i++) {
+                    hasher.encode("rejected");
+                }
+            })
+                    .isInstanceOf(ServiceException.class)
+                    .extracting("code")
+                    .isEqualTo("503-1");
+        } finally {
+            hasher.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("timeout 안에 끝나지 않으면 503")
+    void timeout() {
+        PasswordHasher hasher = new PasswordHasher(14, 1, 10, Duration.ofMillis(1), new SimpleMeterRegistry());
+
+        try {
+            assertThatThrownBy(() -> hasher.encode("slow"))
+                    .isInstanceOf(ServiceException.class)
+                    .extracting("code")
+                    .isEqualTo("503-1");
+        } finally {
+            hasher.shutdown();
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.restapi.domain.member.member.service;
+
+import com.example.restapi.domain.member.member.dto.RefreshedAccessToken;
+import com.example.restapi.domain.member.member.entity.Member;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class RefreshedAccessTokenCacheTest {
+
+    @Autowired
+    private RefreshedAccessTokenCache refreshedAccessTokenCache;
+    @Autowired
+    private MemberService memberService;
+
+    @Test
+    @DisplayName("같은 apiKey 로 동시에 요청하면 토큰은 한 번만 발급")
+    void singleFlight() throws Exception {
+        String apiKey = "singleFlightApiKey";
+        AtomicInteger mintCount = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        int threads = 16;
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            List<Future<Optional<RefreshedAccessToken>>> futures = new ArrayList<>();
+
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+
+                    return refreshedAccessTokenCache.get(apiKey, () -> {
+                        mintCount.incrementAndGet();
+                        sleep(100);
+                        return Optional.of(new RefreshedAccessToken(1, "user", "유저", "token-" + mintCount.get()));
+                    });
+                }));
+            }
+
+            start.countDown();
+
+            for (Future<Optional<RefreshedAccessToken>> future : futures) {
+                assertThat(future.get(5, TimeUnit.SECONDS).get().accessToken()).isEqualTo("token-1");
+            }
+        } finally {
+            refreshedAccessTokenCache.invalidate(apiKey);
+        }
+
+        assertThat(mintCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("없는 apiKey 는 보관하지 않음")
+    void notFound() {
+        AtomicInteger mintCount = new AtomicInteger();
+
+        for (int i = 0; i < 2; i++) {
+            Optional<RefreshedAccessToken> opRefreshed = refreshedAccessTokenCache.get("notFoundApiKey", () -> {
+                mintCount.incrementAndGet();
+                return Optional.empty();
+            });
+
+            assertThat(opRefreshed).isEmpty();
+        }
+
+        assertThat(mintCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("apiKey 로 다시 발급한 토큰은 유효하고, 잠시 동안 같은 토큰을 돌려줌")
+    void refreshAccessToken() {
+        Member member = memberService.findByUsername("user1").get();
+
+        try {
+            RefreshedAccessToken refreshed = memberService.refreshAccessToken(member.getApiKey()).get();
+
+            assertThat(refreshed.id()).isEqualTo(member.getId());
+            assertThat(memberService.getMemberByAccessToken(refreshed.accessToken())).isPresent();
+            assertThat(memberService.refreshAccessToken(member.getApiKey()).get().accessToken()).isEqualTo(refreshed.accessToken());
+        } finally {
+            refreshedAccessTokenCache.invalidate(member.getApiKey());
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
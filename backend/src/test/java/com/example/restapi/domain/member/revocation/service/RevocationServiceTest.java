@@ -0,0 +1,150 @@
+package com.example.restapi.domain.member.revocation.service;
+
+import com.example.restapi.domain.member.member.entity.Member;
+import com.example.restapi.domain.member.member.repository.MemberRepository;
+import com.example.restapi.domain.member.member.service.MemberCache;
+import com.example.restapi.domain.member.member.service.MemberService;
+import com.example.restapi.domain.member.revocation.entity.Revocation;
+import com.example.restapi.domain.member.revocation.entity.RevocationType;
+import com.example.restapi.domain.member.revocation.repository.RevocationRepository;
+import com.example.restapi.standard.util.Utils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 폐기는 커밋된 뒤에 메모리에 반영되므로 클래스에는 @Transactional 을 붙이지 않는다.
+@SpringBootTest
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+public class RevocationServiceTest {
+
+    @Autowired
+    private RevocationService revocationService;
+    @Autowired
+    private RevocationRepository revocationRepository;
+    @Autowired
+    private MemberService memberService;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private MemberCache memberCache;
+    @Autowired
+    private MockMvc mvc;
+
+    @AfterEach
+    void tearDown() {
+        revocationRepository.deleteAll();
+        revocationService.clear();
+    }
+
+    @Test
+    @DisplayName("로그아웃하면 같은 apiKey 와 액세스 토큰으로 더 이상 인증되지 않음")
+    void logout() throws Exception {
+        // 로그아웃은 apiKey 를 바꾸므로 다른 테스트가 쓰는 회원 대신 새 회원으로 확인한다.
+        Member joined = memberService.join("logoutUser", "logoutUser1234", "로그아웃회원");
+
+        try {
+            Member member = memberService.findById(joined.getId()).get();
+            String accessToken = memberService.genAccessToken(member);
+            String authorization = "Bearer " + member.getApiKey() + " " + accessToken;
+
+            mvc.perform(get("/api/v1/members/me").header("Authorization", authorization))
+                    .andExpect(status().isOk());
+
+            mvc.perform(delete("/api/v1/members/logout").header("Authorization", authorization))
+                    .andExpect(status().isOk());
+
+            assertThat(revocationService.isAccessTokenRevoked(accessToken)).isTrue();
+            assertThat(revocationService.isApiKeyRevoked(member.getApiKey())).isTrue();
+            assertThat(memberService.findById(joined.getId()).get().getApiKey()).isNotEqualTo(member.getApiKey());
+
+            // 폐기된 토큰으로 apiKey 재발급 경로를 타지 않는다.
+            mvc.perform(get("/api/v1/members/me").header("Authorization", authorization))
+                    .andExpect(status().isUnauthorized());
+
+            // 토큰을 바꿔 보내도 이전 apiKey 로는 다시 발급받지 못한다.
+            mvc.perform(get("/api/v1/members/me").header("Authorization", "Bearer " + member.getApiKey() + " invalid"))
+                    .andExpect(status().isUnauthorized());
+        } finally {
+            memberRepository.deleteById(joined.getId());
+            memberCache.clear();
+        }
+    }
+
+    @Test
+    @DisplayName("회원 인증 정보를 폐기하면 이전 apiKey 와 이전에 발급된 토큰을 쓸 수 없음")
+    void revokeCredentials() throws Exception {
+        Member joined = memberService.join("revokeUser", "revokeUser1234", "폐기회원");
+
+        try {
+            Member member = memberService.findById(joined.getId()).get();
+            String oldApiKey = member.getApiKey();
+            String oldAccessToken = memberService.genAccessToken(member);
+
+            assertThat(memberService.getMemberByAccessToken(oldAccessToken)).isPresent();
+
+            memberService.revokeCredentials(member);
+
+            assertThat(revocationService.isApiKeyRevoked(oldApiKey)).isTrue();
+            assertThat(memberService.getMemberByAccessToken(oldAccessToken)).isEmpty();
+            assertThat(memberService.refreshAccessToken(oldApiKey)).isEmpty();
+            assertThat(memberService.findById(joined.getId()).get().getApiKey()).isNotEqualTo(oldApiKey);
+
+            // 폐기 직후(같은 초 안)에 새로 발급한 토큰은 쓸 수 있다. 같은 밀리초에 발급되지 않도록만 기다린다.
+            Thread.sleep(1);
+            String newAccessToken = memberService.genAccessToken(memberService.findById(joined.getId()).get());
+
+            assertThat(memberService.getMemberByAccessToken(newAccessToken)).isPresent();
+        } finally {
+            memberRepository.deleteById(joined.getId());
+            memberCache.clear();
+        }
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 저장한 폐기 항목은 sync 로 읽어 옴")
+    void sync() {
+        String accessToken = "other-instance-access-token";
+
+        revocationRepository.save(Revocation.builder()
+                .type(RevocationType.ACCESS_TOKEN)
+                .value(Utils.Hash.sha256(accessToken))
+                .revokedAt(LocalDateTime.now())
+                .expiresAt(LocalDateTime.now().plusHours(1))
+                .build());
+
+        assertThat(revocationService.isAccessTokenRevoked(accessToken)).isFalse();
+
+        revocationService.sync();
+
+        assertThat(revocationService.isAccessTokenRevoked(accessToken)).isTrue();
+    }
+
+    @Test
+    @DisplayName("만료된 폐기 항목은 purge 로 지워짐")
+    void purge() {
+        Revocation expired = revocationRepository.save(Revocation.builder()
+                .type(RevocationType.API_KEY)
+                .value(Utils.Hash.sha256("expiredApiKey"))
+                .revokedAt(LocalDateTime.now().minusHours(2))
+                .expiresAt(LocalDateTime.now().minusHours(1))
+                .build());
+
+        revocationService.purge();
+
+        assertThat(revocationRepository.findById(expired.getId())).isEmpty();
+        assertThat(revocationService.isApiKeyRevoked("expiredApiKey")).isFalse();
+    }
+}
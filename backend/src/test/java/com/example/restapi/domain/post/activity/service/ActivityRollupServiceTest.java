@@ -0,0 +1,118 @@
+package com.example.restapi.domain.post.activity.service;
+
+import com.example.restapi.domain.member.member.entity.Member;
+import com.example.restapi.domain.member.member.service.MemberService;
+import com.example.restapi.domain.post.activity.dto.ActivityBucketDto;
+import com.example.restapi.domain.post.activity.entity.ActivityGranularity;
+import com.example.restapi.domain.post.activity.entity.ActivityRollup;
+import com.example.restapi.domain.post.activity.repository.ActivityRollupRepository;
+import com.example.restapi.domain.post.post.service.PostService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 집계는 커밋된 뒤에 반영되므로 트랜잭션을 직접 커밋하고, 만든 데이터는 지운다.
+@SpringBootTest
+@ActiveProfiles("test")
+public class ActivityRollupServiceTest {
+
+    @Autowired
+    private ActivityRollupService activityRollupService;
+    @Autowired
+    private ActivityRollupRepository activityRollupRepository;
+    @Autowired
+    private PostService postService;
+    @Autowired
+    private MemberService memberService;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private ActivityBucketDto currentHour() {
+        LocalDateTime hour = ActivityGranularity.HOUR.truncate(LocalDateTime.now());
+
+        return activityRollupService.getBuckets(ActivityGranularity.HOUR, hour.toLocalDate(), hour.toLocalDate())
+                .stream()
+                .filter(bucket -> bucket.bucketStart().equals(hour))
+                .findFirst()
+                .get();
+    }
+
+    @Test
+    @DisplayName("커밋된 글 작성은 현재 시간 버킷에 반영되고, flush 뒤에도 값이 같음")
+    void write() {
+        activityRollupService.flush();
+        ActivityBucketDto before = currentHour();
+
+        Member author = memberService.findByUsername("user1").get();
+        long id = new TransactionTemplate(transactionManager).execute(
+                _ -> postService.write(author, "집계 테스트", "집계 테스트", true, false).getId()
+        );
+
+        try {
+            ActivityBucketDto pending = currentHour();
+
+            assertThat(pending.postCount()).isEqualTo(before.postCount() + 1);
+            assertThat(pending.publishedPostCount()).isEqualTo(before.publishedPostCount() + 1);
+            assertThat(pending.listedPostCount()).isEqualTo(before.listedPostCount());
+
+            activityRollupService.flush();
+
+            assertThat(currentHour()).isEqualTo(pending);
+        } finally {
+            new TransactionTemplate(transactionManager).executeWithoutResult(
+                    _ -> postService.delete(postService.getItem(id).get())
+            );
+        }
+    }
+
+    @Test
+    @DisplayName("보존 기간이 지난 시간 버킷은 일 버킷으로 합쳐짐")
+    void compact() {
+        LocalDate day = LocalDate.now().minusDays(30);
+
+        List<ActivityRollup> hourly = activityRollupRepository.saveAll(List.of(
+                rollup(ActivityGranularity.HOUR, day.atTime(9, 0), 2, 1),
+                rollup(ActivityGranularity.HOUR, day.atTime(21, 0), 3, 4)
+        ));
+
+        try {
+            activityRollupService.compact();
+
+            assertThat(activityRollupRepository.findAllById(hourly.stream().map(ActivityRollup::getId).toList())).isEmpty();
+
+            List<ActivityBucketDto> days = activityRollupService.getBuckets(ActivityGranularity.DAY, day.minusDays(1), day);
+
+            assertThat(days).hasSize(2);
+            assertThat(days.get(0).postCount()).isZero();
+            assertThat(days.get(1).bucketStart()).isEqualTo(day.atStartOfDay());
+            assertThat(days.get(1).postCount()).isEqualTo(5);
+            assertThat(days.get(1).commentCount()).isEqualTo(5);
+        } finally {
+            activityRollupRepository.deleteAllInBatch(
+                    activityRollupRepository.findRange(ActivityGranularity.DAY, day.atStartOfDay(), day.plusDays(1).atStartOfDay())
+            );
+        }
+    }
+
+    private ActivityRollup rollup(ActivityGranularity granularity, LocalDateTime bucketStart, long postCount, long commentCount) {
+        return ActivityRollup
+                .builder()
+                .granularity(granularity)
+                .bucketStart(bucketStart)
+                .postCount(postCount)
+                .publishedPostCount(postCount)
+                .listedPostCount(postCount)
+                .commentCount(commentCount)
+                .build();
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.restapi.domain.post.post.service;
+
+import com.example.restapi.domain.member.member.entity.Member;
+import com.example.restapi.domain.member.member.service.MemberService;
+import com.example.restapi.domain.post.comment.entity.Comment;
+import com.example.restapi.domain.post.comment.repository.CommentRepository;
+import com.example.restapi.domain.post.post.entity.Post;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+public class AuthorNameSyncServiceTest {
+
+    @Autowired
+    private AuthorNameSyncService authorNameSyncService;
+    @Autowired
+    private PostService postService;
+    @Autowired
+    private MemberService memberService;
+    @Autowired
+    private CommentRepository commentRepository;
+    @Autowired
+    private EntityManager em;
+
+    @Test
+    @DisplayName("작성 시 작성자 닉네임이 글/댓글에 복사됨")
+    void copyOnWrite() {
+        Member user1 = memberService.findByUsername("user1").get();
+
+        Post post = postService.write(user1, "새 글", "새 글 내용", true, true);
+        Comment comment = post.addComment(user1, "새 댓글");
+
+        assertThat(post.getAuthorName()).isEqualTo(user1.getNickname());
+        assertThat(comment.getAuthorName()).isEqualTo(user1.getNickname());
+    }
+
+    @Test
+    @DisplayName("닉네임 변경 후 동기화하면 해당 회원의 글/댓글만 갱신됨")
+    void sync() {
+        Member user1 = memberService.findByUsername("user1").get();
+        Member user2 = memberService.findByUsername("user2").get();
+
+        Post post = postService.write(user2, "새 글", "새 글 내용", true, true);
+        post.addComment(user1, "user1 댓글");
+        post.addComment(user2, "user2 댓글");
+        postService.flush();
+
+        memberService.modifyNickname(user1, "새닉네임");
+        authorNameSyncService.sync(user1.getId());
+
+        em.clear();
+
+        List<Post> posts = postService.getItems();
+
+        assertThat(posts)
+                .filteredOn(p -> p.getAuthor().getId().equals(user1.getId()))
+                .isNotEmpty()
+                .allMatch(p -> p.getAuthorName().equals("새닉네임"));
+        assertThat(posts)
+                .filteredOn(p -> p.getAuthor().getId().equals(user2.getId()))
+                .allMatch(p -> p.getAuthorName().equals(user2.getNickname()));
+
+        List<Comment> comments = commentRepository.findByPostIdIn(List.of(post.getId()));
+
+        assertThat(comments)
+                .extracting(Comment::getAuthorName)
+                .containsExactly("새닉네임", user2.getNickname());
+    }
+
+    @Test
+    @DisplayName("백필은 작성자 이름이 비어 있는 글/댓글만 채움")
+    void fillMissingAuthorNames() {
+        Member user1 = memberService.findByUsername("user1").get();
+        Member user2 = memberService.findByUsername("user2").get();
+
+        Post post = postService.write(user1, "새 글", "새 글 내용", true, true);
+        Comment comment = post.addComment(user2, "user2 댓글");
+        Post filledPost = postService.write(user2, "채워진 글", "채워진 글 내용", true, true);
+        postService.flush();
+
+        em.createQuery("update Post p set p.authorName = null where p.id = :id").setParameter("id", post.getId()).executeUpdate();
+        em.createQuery("update Comment c set c.authorName = null where c.id = :id").setParameter("id", comment.getId()).executeUpdate();
+        // 이미 채워진 행은 닉네임과 달라도 건드리지 않는다.
+        em.createQuery("update Post p set p.authorName = '예전닉네임' where p.id = :id").setParameter("id", filledPost.getId()).executeUpdate();
+
+        authorNameSyncService.fillMissingAuthorNames();
+
+        em.clear();
+
+        assertThat(postService.getItem(post.getId()).get().getAuthorName()).isEqualTo(user1.getNickname());
+        assertThat(postService.getItem(filledPost.getId()).get().getAuthorName()).isEqualTo("예전닉네임");
+        assertThat(commentRepository.findByPostIdIn(List.of(post.getId())))
+                .extracting(Comment::getAuthorName)
+                .containsExactly(user2.getNickname());
+    }
+}
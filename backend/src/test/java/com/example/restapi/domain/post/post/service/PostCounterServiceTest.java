@@ -0,0 +1,90 @@
+package com.example.restapi.domain.post.post.service;
+
+import com.example.restapi.domain.member.member.entity.Member;
+import com.example.restapi.domain.member.member.service.MemberService;
+import com.example.restapi.domain.post.post.entity.Post;
+import com.example.restapi.domain.post.post.repository.PostCounterRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+public class PostCounterServiceTest {
+
+    @Autowired
+    private PostCounterService postCounterService;
+    @Autowired
+    private PostService postService;
+    @Autowired
+    private MemberService memberService;
+    @Autowired
+    private PostCounterRepository postCounterRepository;
+
+    @Test
+    @DisplayName("카운터 초기값은 실제 개수와 같음")
+    void initialCount() {
+        Member user1 = memberService.findByUsername("user1").get();
+
+        assertThat(postCounterService.getListedCount())
+                .isEqualTo(postService.getItems().stream().filter(Post::isListed).count());
+        assertThat(postCounterService.getAuthorCount(user1.getId()))
+                .isEqualTo(postService.getItems().stream().filter(post -> post.getAuthor().equals(user1)).count());
+    }
+
+    @Test
+    @DisplayName("작성/수정/삭제 시 카운터 갱신")
+    void incrementalUpdate() {
+        Member user1 = memberService.findByUsername("user1").get();
+        long listedCount = postCounterService.getListedCount();
+        long authorCount = postCounterService.getAuthorCount(user1.getId());
+
+        Post post = postService.write(user1, "새 글", "새 글 내용", true, true);
+
+        assertThat(postCounterService.getListedCount()).isEqualTo(listedCount + 1);
+        assertThat(postCounterService.getAuthorCount(user1.getId())).isEqualTo(authorCount + 1);
+
+        postService.modify(post, "새 글", "새 글 내용", true, false);
+
+        assertThat(postCounterService.getListedCount()).isEqualTo(listedCount);
+        assertThat(postCounterService.getAuthorCount(user1.getId())).isEqualTo(authorCount + 1);
+
+        postService.delete(post);
+
+        assertThat(postCounterService.getListedCount()).isEqualTo(listedCount);
+        assertThat(postCounterService.getAuthorCount(user1.getId())).isEqualTo(authorCount);
+    }
+
+    @Test
+    @DisplayName("재집계하면 어긋난 카운터를 고치고 없는 카운터를 만듦")
+    void reconcile() {
+        Member user1 = memberService.findByUsername("user1").get();
+        String authorKey = "author:" + user1.getId();
+        long listedCount = postService.getItems().stream().filter(Post::isListed).count();
+        long authorCount = postService.getItems().stream().filter(post -> post.getAuthor().equals(user1)).count();
+
+        postCounterService.getListedCount();
+        postCounterRepository.increase("listed", 5);
+        postCounterRepository.deleteById(authorKey);
+        postCounterRepository.flush();
+
+        postCounterService.reconcile();
+
+        assertThat(postCounterRepository.findAmountByName("listed")).contains(listedCount);
+        assertThat(postCounterRepository.findAmountByName(authorKey)).contains(authorCount);
+    }
+
+    @Test
+    @DisplayName("가입하면 글 카운터를 0 으로 만듦")
+    void createOnJoin() {
+        Member member = memberService.join("counterUser", "counterUser1234", "카운터회원");
+
+        assertThat(postCounterRepository.findAmountByName("author:" + member.getId())).contains(0L);
+    }
+}
@@ -0,0 +1,137 @@
+package com.example.restapi.domain.post.post.service;
+
+import com.example.restapi.domain.post.post.controller.SearchKeywordType;
+import com.example.restapi.domain.post.post.dto.PageDto;
+import com.example.restapi.domain.post.post.dto.PostDto;
+import com.example.restapi.domain.post.post.entity.Post;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 트랜잭션 밖에서 실행되므로 무효화가 즉시 일어난다.
+@SpringBootTest(properties = "custom.post.list-cache.enabled=true")
+@ActiveProfiles("test")
+public class PostListCacheTest {
+
+    @Autowired
+    private PostListCache postListCache;
+
+    private final AtomicInteger loadCount = new AtomicInteger();
+
+    private final PostListCache.Key page1 = new PostListCache.Key(1, 3, SearchKeywordType.TITLE, "");
+    private final PostListCache.Key page2 = new PostListCache.Key(2, 3, SearchKeywordType.TITLE, "");
+    private final PostListCache.Key soccer = new PostListCache.Key(1, 3, SearchKeywordType.TITLE, "축구");
+
+    @BeforeEach
+    void setUp() {
+        postListCache.clear();
+        loadCount.set(0);
+
+        load(page1, 30, 29, 28);
+        load(page2, 27, 26, 25);
+        load(soccer, 1);
+        loadCount.set(0);
+    }
+
+    private PageDto load(PostListCache.Key key, long... ids) {
+        return postListCache.get(key, () -> {
+            loadCount.incrementAndGet();
+
+            List<PostDto> items = new ArrayList<>();
+
+            for (long id : ids) {
+                items.add(new PostDto(id, LocalDateTime.now(), LocalDateTime.now(), "title" + id, 3L, "유저1", true, true));
+            }
+
+            return new PageDto(items, key.page(), 10, 30, key.pageSize());
+        });
+    }
+
+    private Post post(long id, String title, boolean listed) {
+        return Post.builder()
+                .id(id)
+                .title(title)
+                .content("content" + id)
+                .published(true)
+                .listed(listed)
+                .build();
+    }
+
+    @Test
+    @DisplayName("같은 키로 다시 조회하면 캐시 적중")
+    void hit() {
+        load(page1, 30, 29, 28);
+        load(new PostListCache.Key(0, 3, SearchKeywordType.CONTENT, ""), 30, 29, 28);
+
+        assertThat(loadCount.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("비공개 글 작성은 목록 캐시를 무효화하지 않음")
+    void writeUnlisted() {
+        postListCache.onWrite(post(31, "축구 하실분", false));
+
+        load(page1);
+        load(soccer);
+
+        assertThat(loadCount.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("공개 글 작성 시 전체 목록과 검색어에 걸리는 목록만 무효화")
+    void writeListed() {
+        PostListCache.Key basketball = new PostListCache.Key(1, 3, SearchKeywordType.TITLE, "농구");
+        load(basketball, 2);
+        loadCount.set(0);
+
+        postListCache.onWrite(post(31, "축구 하실분", true));
+
+        load(page1);
+        load(page2);
+        load(soccer);
+        assertThat(loadCount.get()).isEqualTo(3);
+
+        load(basketball);
+        assertThat(loadCount.get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("공개 여부가 그대로인 수정은 그 글이 들어 있는 페이지만 무효화")
+    void modify() {
+        Post post = post(26, "title26", true);
+        post.setTitle("새 제목");
+
+        postListCache.onModify(post, "title26", "content26", true);
+
+        load(page1);
+        load(soccer);
+        assertThat(loadCount.get()).isZero();
+
+        load(page2);
+        assertThat(loadCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("작성자 이름 변경 시 그 작성자의 글이 있는 페이지만 무효화")
+    void authorNameChanged() {
+        postListCache.onAuthorNameChanged(4L);
+
+        load(page1);
+        assertThat(loadCount.get()).isZero();
+
+        postListCache.onAuthorNameChanged(3L);
+
+        load(page1);
+        assertThat(loadCount.get()).isEqualTo(1);
+    }
+}
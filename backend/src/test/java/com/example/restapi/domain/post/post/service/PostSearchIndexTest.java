@@ -0,0 +1,107 @@
+package com.example.restapi.domain.post.post.service;
+
+import com.example.restapi.domain.member.member.entity.Member;
+import com.example.restapi.domain.member.member.service.MemberService;
+import com.example.restapi.domain.post.post.controller.SearchKeywordType;
+import com.example.restapi.domain.post.post.entity.Post;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class PostSearchIndexTest {
+
+    @Autowired
+    private PostSearchIndex postSearchIndex;
+    @Autowired
+    private PostService postService;
+    @Autowired
+    private MemberService memberService;
+
+    // 색인은 시작 후 비동기로 만들어진다.
+    @BeforeEach
+    void waitUntilReady() throws InterruptedException {
+        for (int i = 0; i < 100 && !postSearchIndex.isReady(); i++) {
+            Thread.sleep(50);
+        }
+
+        assertThat(postSearchIndex.isReady()).isTrue();
+    }
+
+    private List<Long> search(SearchKeywordType keywordType, String keyword) {
+        long[] ids = postSearchIndex.candidates(keywordType, keyword, Long.MAX_VALUE, false, 1000).ids();
+
+        return Arrays.stream(ids).boxed().toList();
+    }
+
+    @Test
+    @DisplayName("한글 제목 검색")
+    void searchKoreanTitle() {
+        List<Long> candidateIds = search(SearchKeywordType.TITLE, "축구");
+
+        assertThat(candidateIds).contains(1L);
+        assertThat(candidateIds).doesNotContain(2L);
+    }
+
+    @Test
+    @DisplayName("한 글자 검색어도 색인으로 처리")
+    void searchShortKeyword() {
+        List<Long> candidateIds = search(SearchKeywordType.TITLE, "축");
+
+        assertThat(candidateIds).contains(1L);
+        assertThat(candidateIds).doesNotContain(2L);
+    }
+
+    @Test
+    @DisplayName("후보는 id 순서로 limit 개씩 이어서 꺼냄")
+    void candidatesByKeyset() {
+        List<Long> all = search(SearchKeywordType.TITLE, "title");
+
+        assertThat(all).hasSizeGreaterThan(3);
+        assertThat(all).isSortedAccordingTo(Comparator.reverseOrder());
+
+        PostSearchIndex.Candidates first = postSearchIndex.candidates(SearchKeywordType.TITLE, "title", Long.MAX_VALUE, false, 2);
+        PostSearchIndex.Candidates second = postSearchIndex.candidates(SearchKeywordType.TITLE, "title", first.lastScannedId(), false, 2);
+
+        assertThat(first.exhausted()).isFalse();
+        assertThat(first.ids()).containsExactly(all.get(0), all.get(1));
+        assertThat(second.ids()).containsExactly(all.get(2), all.get(3));
+
+        PostSearchIndex.Candidates ascending = postSearchIndex.candidates(SearchKeywordType.TITLE, "title", all.get(2), true, 2);
+
+        assertThat(ascending.ids()).containsExactly(all.get(1), all.get(0));
+    }
+
+    @Test
+    @DisplayName("글 작성/수정/삭제 시 색인 갱신")
+    void incrementalUpdate() {
+        Member user1 = memberService.findByUsername("user1").get();
+        Post post = postService.write(user1, "배드민턴 동호회", "주말 오전 모임", true, true);
+
+        assertThat(search(SearchKeywordType.TITLE, "배드민턴")).contains(post.getId());
+        assertThat(search(SearchKeywordType.CONTENT, "오전")).contains(post.getId());
+
+        String oldTitle = post.getTitle();
+        String oldContent = post.getContent();
+        post.setTitle("탁구 동호회");
+        post.setContent("평일 저녁 모임");
+        postSearchIndex.update(post, oldTitle, oldContent);
+
+        assertThat(search(SearchKeywordType.TITLE, "탁구")).contains(post.getId());
+        assertThat(search(SearchKeywordType.TITLE, "배드민턴")).doesNotContain(post.getId());
+
+        postService.delete(post);
+
+        assertThat(search(SearchKeywordType.TITLE, "탁구")).doesNotContain(post.getId());
+    }
+}
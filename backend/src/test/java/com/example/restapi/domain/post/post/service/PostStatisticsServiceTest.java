@@ -0,0 +1,110 @@
+package com.example.restapi.domain.post.post.service;
+
+import com.example.restapi.domain.member.member.entity.Member;
+import com.example.restapi.domain.member.member.service.MemberService;
+import com.example.restapi.domain.post.post.dto.PostStatistics;
+import com.example.restapi.domain.post.post.entity.Post;
+import com.example.restapi.domain.post.post.repository.PostRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 통계는 커밋된 뒤에 반영되므로 트랜잭션을 직접 커밋하고, 만든 글은 지운다.
+@SpringBootTest
+@ActiveProfiles("test")
+public class PostStatisticsServiceTest {
+
+    @Autowired
+    private PostStatisticsService postStatisticsService;
+    @Autowired
+    private PostService postService;
+    @Autowired
+    private PostRepository postRepository;
+    @Autowired
+    private MemberService memberService;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate tx() {
+        return new TransactionTemplate(transactionManager);
+    }
+
+    private PostStatistics counted() {
+        return postRepository.countStatistics();
+    }
+
+    @Test
+    @DisplayName("작성/수정/삭제가 커밋되면 통계에 반영")
+    void writeModifyDelete() {
+        postStatisticsService.reconcile();
+        PostStatistics before = postStatisticsService.getStatistics();
+        assertThat(before).isEqualTo(counted());
+
+        Member author = memberService.findByUsername("user1").get();
+        long id = tx().execute(_ -> postService.write(author, "통계 테스트", "통계 테스트", false, true).getId());
+
+        assertThat(postStatisticsService.getStatistics()).isEqualTo(before.plus(new PostStatistics(1, 0, 1)));
+
+        tx().executeWithoutResult(_ -> {
+            Post post = postService.getItem(id).get();
+            postService.modify(post, post.getTitle(), post.getContent(), true, false);
+        });
+
+        assertThat(postStatisticsService.getStatistics()).isEqualTo(before.plus(new PostStatistics(1, 1, 0)));
+        assertThat(postStatisticsService.getStatistics()).isEqualTo(counted());
+
+        tx().executeWithoutResult(_ -> postService.delete(postService.getItem(id).get()));
+
+        assertThat(postStatisticsService.getStatistics()).isEqualTo(before);
+    }
+
+    @Test
+    @DisplayName("롤백된 작성은 반영하지 않음")
+    void rollback() {
+        postStatisticsService.reconcile();
+        PostStatistics before = postStatisticsService.getStatistics();
+
+        Member author = memberService.findByUsername("user1").get();
+
+        tx().executeWithoutResult(status -> {
+            postService.write(author, "통계 테스트", "통계 테스트", true, true);
+            status.setRollbackOnly();
+        });
+
+        assertThat(postStatisticsService.getStatistics()).isEqualTo(before);
+    }
+
+    @Test
+    @DisplayName("서비스를 거치지 않은 변경은 재집계로 보정")
+    void reconcile() {
+        postStatisticsService.reconcile();
+        PostStatistics before = postStatisticsService.getStatistics();
+
+        Member author = memberService.findByUsername("user1").get();
+        Post post = postRepository.save(Post.builder()
+                .author(author)
+                .authorName(author.getNickname())
+                .title("통계 테스트")
+                .content("통계 테스트")
+                .published(true)
+                .listed(true)
+                .build());
+
+        try {
+            assertThat(postStatisticsService.getStatistics()).isEqualTo(before);
+
+            postStatisticsService.reconcile();
+
+            assertThat(postStatisticsService.getStatistics()).isEqualTo(before.plus(new PostStatistics(1, 1, 1)));
+        } finally {
+            postRepository.delete(post);
+            postStatisticsService.reconcile();
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.restapi.global.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = "custom.rate-limit.enabled=true")
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+public class RateLimiterTest {
+
+    @Autowired
+    private MockMvc mvc;
+
+    private RateLimiter rateLimiter(RateLimitProperties.Limit limit) {
+        return rateLimiter(limit, 100);
+    }
+
+    private RateLimiter rateLimiter(RateLimitProperties.Limit limit, long maxKeys) {
+        return new RateLimiter(new RateLimitProperties(true, maxKeys, Duration.ofSeconds(10), List.of(
+                new RateLimitProperties.Group("test", List.of("GET"), List.of("/api/*/posts"), null, limit, null, null)
+        )));
+    }
+
+    private MockHttpServletRequest request(String method, String uri) {
+        return new MockHttpServletRequest(method, uri);
+    }
+
+    @Test
+    @DisplayName("burst 만큼은 바로 허용하고, 그 다음은 다시 시도할 시간을 알려줌")
+    void burst() {
+        RateLimiter rateLimiter = rateLimiter(new RateLimitProperties.Limit(1, Duration.ofHours(1), 3));
+        RateLimiter.Route route = rateLimiter.route(request("GET", "/api/v1/posts"));
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(rateLimiter.acquire(route, RateLimiter.Dimension.IP, "1.1.1.1")).isZero();
+        }
+
+        assertThat(rateLimiter.acquire(route, RateLimiter.Dimension.IP, "1.1.1.1"))
+                .isPositive()
+                .isLessThanOrEqualTo(Duration.ofHours(1).toNanos());
+
+        // 다른 키와 설정이 없는 기준(apiKey)은 영향을 받지 않는다.
+        assertThat(rateLimiter.acquire(route, RateLimiter.Dimension.IP, "2.2.2.2")).isZero();
+        assertThat(rateLimiter.acquire(route, RateLimiter.Dimension.API_KEY, "1.1.1.1")).isZero();
+    }
+
+    @Test
+    @DisplayName("시간이 지나면 다시 허용하고, 다 찬 버킷은 evict 로 지워짐")
+    void refill() throws InterruptedException {
+        RateLimiter rateLimiter = rateLimiter(new RateLimitProperties.Limit(100, Duration.ofSeconds(1), 1));
+        RateLimiter.Route route = rateLimiter.route(request("GET", "/api/v1/posts"));
+
+        assertThat(rateLimiter.acquire(route, RateLimiter.Dimension.IP, "1.1.1.1")).isZero();
+        assertThat(rateLimiter.acquire(route, RateLimiter.Dimension.IP, "1.1.1.1")).isPositive();
+
+        Thread.sleep(20);
+
+        assertThat(rateLimiter.acquire(route, RateLimiter.Dimension.IP, "1.1.1.1")).isZero();
+
+        Thread.sleep(20);
+        rateLimiter.evict();
+
+        assertThat(rateLimiter.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("키가 max-keys 만큼 차면 새 키들은 공유 버킷 하나로 제한됨")
+    void overflow() {
+        RateLimiter rateLimiter = rateLimiter(new RateLimitProperties.Limit(1, Duration.ofHours(1), 3), 2);
+        RateLimiter.Route route = rateLimiter.route(request("GET", "/api/v1/posts"));
+
+        assertThat(rateLimiter.acquire(route, RateLimiter.Dimension.IP, "1.1.1.1")).isZero();
+        assertThat(rateLimiter.acquire(route, RateLimiter.Dimension.IP, "2.2.2.2")).isZero();
+        assertThat(rateLimiter.size()).isEqualTo(2);
+
+        // 새 키마다 한도를 새로 받지 못하고 공유 버킷의 burst 3 을 나눠 쓴다.
+        assertThat(rateLimiter.acquire(route, RateLimiter.Dimension.IP, "3.3.3.3")).isZero();
+        assertThat(rateLimiter.acquire(route, RateLimiter.Dimension.IP, "4.4.4.4")).isZero();
+        assertThat(rateLimiter.acquire(route, RateLimiter.Dimension.IP, "5.5.5.5")).isZero();
+        assertThat(rateLimiter.acquire(route, RateLimiter.Dimension.IP, "6.6.6.6")).isPositive();
+        assertThat(rateLimiter.size()).isEqualTo(2);
+
+        // 이미 있던 키는 자기 버킷을 그대로 쓴다.
+        assertThat(rateLimiter.acquire(route, RateLimiter.Dimension.IP, "1.1.1.1")).isZero();
+    }
+
+    @Test
+    @DisplayName("일치하는 경로 그룹이 없으면 제한하지 않음")
+    void noRoute() {
+        RateLimiter rateLimiter = rateLimiter(new RateLimitProperties.Limit(1, Duration.ofHours(1), 1));
+
+        assertThat(rateLimiter.route(request("POST", "/api/v1/posts"))).isNull();
+        assertThat(rateLimiter.route(request("GET", "/api/v1/posts/1"))).isNull();
+    }
+
+    @Test
+    @DisplayName("검색 요청이 넘치면 컨트롤러에 닿기 전에 429")
+    void tooManyRequests() throws Exception {
+        // post-search 그룹: IP 당 burst 20
+        for (int i = 0; i < 20; i++) {
+            mvc.perform(get("/api/v1/posts").param("keyword", "제목").with(request -> {
+                        request.setRemoteAddr("10.0.0.1");
+                        return request;
+                    }))
+                    .andExpect(status().isOk());
+        }
+
+        mvc.perform(get("/api/v1/posts").param("keyword", "제목").with(request -> {
+                    request.setRemoteAddr("10.0.0.1");
+                    return request;
+                }))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists("Retry-After"))
+                .andExpect(jsonPath("$.code").value("429-1"));
+
+        // 검색어가 없는 목록 조회는 다른 그룹이라 계속 허용된다.
+        mvc.perform(get("/api/v1/posts").with(request -> {
+                    request.setRemoteAddr("10.0.0.1");
+                    return request;
+                }))
+                .andExpect(status().isOk());
+    }
+}